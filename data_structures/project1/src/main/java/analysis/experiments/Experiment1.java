@@ -14,7 +14,7 @@ public class Experiment1 {
     public static final long STEP = 100;
 
     public static void main(String[] args) {
-        IList<Long> dictionarySizes = AnalysisUtils.makeDoubleLinkedList(0L, MAX_DICTIONARY_SIZE, STEP);
+        IList<Long> dictionarySizes = AnalysisUtils.makeLongList(0L, MAX_DICTIONARY_SIZE, STEP);
 
         // Note: You may be wondering what doing 'Experiment1::test1' do?
         // Basically, what's happening here is that we're telling Java to:
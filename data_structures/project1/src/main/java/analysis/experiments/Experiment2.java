@@ -12,7 +12,7 @@ public class Experiment2 {
     public static final long STEP = 100;
 
     public static void main(String[] args) {
-        IList<Long> listSizes = AnalysisUtils.makeDoubleLinkedList(0L, MAX_LIST_SIZE, STEP);
+        IList<Long> listSizes = AnalysisUtils.makeLongList(0L, MAX_LIST_SIZE, STEP);
 
         System.out.println("Starting experiment 2, test 1");
         IList<Long> test1Results = AnalysisUtils.runTrials(listSizes, Experiment2::test1, NUM_TRIALS);
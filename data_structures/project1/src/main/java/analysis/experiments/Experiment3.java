@@ -11,7 +11,7 @@ public class Experiment3 {
     public static final long STEP = 100;
 
     public static void main(String[] args) {
-        IList<Long> indices = AnalysisUtils.makeDoubleLinkedList(0L, MAX_LIST_SIZE, STEP);
+        IList<Long> indices = AnalysisUtils.makeLongList(0L, MAX_LIST_SIZE, STEP);
 
         System.out.println("Starting experiment 3");
         IList<Long> testResults = AnalysisUtils.runTrials(indices, Experiment3::test, NUM_TRIALS);
@@ -1,12 +1,14 @@
 package analysis.utils;
 
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ListFactory;
+import datastructures.concrete.LongArrayList;
 import datastructures.concrete.dictionaries.ArrayDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import org.openjdk.jol.info.GraphLayout;
 
-import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 
 /**
  * This class contains a variety of utility methods useful when running
@@ -26,6 +28,20 @@ public class AnalysisUtils {
         return out;
     }
 
+    /**
+     * Constructs an unboxed list of longs starting with 'start', going to 'end', in 'step' increments.
+     *
+     * Use this for lists of experiment inputs, where we only care about the numbers themselves
+     * and not how they're stored.
+     */
+    public static LongArrayList makeLongList(long start, long end, long step) {
+        LongArrayList out = new LongArrayList();
+        for (long i = start; i < end; i += step) {
+            out.addLong(i);
+        }
+        return out;
+    }
+
     /**
      * Constructs an array dictionary containing keys from 0 to 'size' (with dummy values)
      */
@@ -58,10 +74,17 @@ public class AnalysisUtils {
      * If you want to test something that has some degree of randomness (e.g. testing how long it takes
      * for some code to run), you should try using the 'runTrials' helper method below.
      */
-    public static IList<Long> runSingleTrial(IList<Long> inputs, Function<Long, Long> testerFunction) {
-        IList<Long> trial = new DoubleLinkedList<>();
-        for (long input : inputs) {
-            trial.add(testerFunction.apply(input));
+    public static LongArrayList runSingleTrial(IList<Long> inputs, LongUnaryOperator testerFunction) {
+        LongArrayList trial = new LongArrayList(inputs.size());
+        if (inputs instanceof LongArrayList) {
+            LongArrayList unboxedInputs = (LongArrayList) inputs;
+            for (int i = 0; i < unboxedInputs.size(); i++) {
+                trial.addLong(testerFunction.applyAsLong(unboxedInputs.getLong(i)));
+            }
+        } else {
+            for (long input : inputs) {
+                trial.addLong(testerFunction.applyAsLong(input));
+            }
         }
         return trial;
     }
@@ -70,13 +93,13 @@ public class AnalysisUtils {
      * This method re-runs 'runSingleTrial' the given `numTrial' number of times and returns
      * a list containing the (rounded) average of each trial.
      */
-    public static IList<Long> runTrials(IList<Long> inputs, Function<Long, Long> testerFunction, int numTrials) {
+    public static LongArrayList runTrials(IList<Long> inputs, LongUnaryOperator testerFunction, int numTrials) {
         // Run tester function once but discard result to warm up cache
         // (This helps us obtain more accurate results when testing timing code)
         System.out.println("    Running preliminary trial to warm up caches (will discard result)");
         runSingleTrial(inputs, testerFunction);
 
-        IList<IList<Long>> trials = new DoubleLinkedList<>();
+        IList<IList<Long>> trials = ListFactory.makeRandomAccessList(numTrials);
         for (int i = 0; i < numTrials; i++) {
             System.out.println("    Starting trial " + i);
             trials.add(runSingleTrial(inputs, testerFunction));
@@ -91,26 +114,58 @@ public class AnalysisUtils {
      *
      * Returns a list containing the (rounded) average of each row.
      */
-    public static IList<Long> average(IList<IList<Long>> entries) {
+    public static LongArrayList average(IList<IList<Long>> entries) {
         if (entries.isEmpty()) {
             throw new IllegalArgumentException("There must be at least one entry before we can take an average");
         }
         int numEntries = entries.size();
+        int numRows = entries.get(0).size();
 
-        IList<Long> result = new DoubleLinkedList<>();
-        RowIterator<Long> rowIter = new RowIterator<>(entries);
-        while (rowIter.hasNext()) {
-            IList<Long> trial = rowIter.next();
-            long curr = 0L;
-            for (long val : trial) {
-                curr += val;
+        // Sum up each row in place instead of building a list per row
+        long[] totals = new long[numRows];
+        for (IList<Long> entry : entries) {
+            if (entry.size() != numRows) {
+                throw new IllegalArgumentException("Not all columns have the same length");
             }
-            result.add(Math.round((double) curr / numEntries));
+            addInto(totals, entry);
+        }
+
+        LongArrayList result = new LongArrayList(numRows);
+        for (long total : totals) {
+            result.addLong(Math.round((double) total / numEntries));
         }
 
         return result;
     }
 
+    /**
+     * Converts the given list into an array of unboxed longs.
+     */
+    public static long[] toLongArray(IList<Long> list) {
+        if (list instanceof LongArrayList) {
+            return ((LongArrayList) list).toArray();
+        }
+        long[] out = new long[list.size()];
+        addInto(out, list);
+        return out;
+    }
+
+    // Adds the i-th element of 'column' to totals[i], for every i.
+    private static void addInto(long[] totals, IList<Long> column) {
+        if (column instanceof LongArrayList) {
+            LongArrayList unboxedColumn = (LongArrayList) column;
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += unboxedColumn.getLong(i);
+            }
+        } else {
+            int i = 0;
+            for (long val : column) {
+                totals[i] += val;
+                i++;
+            }
+        }
+    }
+
     /**
      * Returns the approximate amount of memory by the entire object, in bytes.
      */
@@ -1,6 +1,6 @@
 package analysis.utils;
 
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ListFactory;
 import datastructures.interfaces.IList;
 
 import java.io.FileWriter;
@@ -13,11 +13,11 @@ import java.util.Iterator;
  */
 public class CsvWriter {
     private IList<String> columnNames;
-    private IList<IList<Long>> columns;
+    private IList<long[]> columns;
 
     public CsvWriter() {
-        this.columnNames = new DoubleLinkedList<>();
-        this.columns = new DoubleLinkedList<>();
+        this.columnNames = ListFactory.makeRandomAccessList();
+        this.columns = ListFactory.makeRandomAccessList();
     }
 
     /**
@@ -27,7 +27,8 @@ public class CsvWriter {
      */
     public void addColumn(String name, IList<Long> column) {
         this.columnNames.add(name);
-        this.columns.add(column);
+        // Copy the column out into a flat array so writing doesn't need to box every value again
+        this.columns.add(AnalysisUtils.toLongArray(column));
     }
 
     /**
@@ -42,9 +43,23 @@ public class CsvWriter {
             // Print header
             writer.println(this.join(this.columnNames, ","));
 
-            RowIterator<Long> rowIter = new RowIterator<>(this.columns);
-            while (rowIter.hasNext()) {
-                writer.println(this.join(rowIter.next(), ","));
+            int numRows = this.columns.get(0).length;
+            for (long[] column : this.columns) {
+                if (column.length != numRows) {
+                    throw new IllegalArgumentException("Not all columns have the same length");
+                }
+            }
+
+            StringBuilder row = new StringBuilder();
+            for (int i = 0; i < numRows; i++) {
+                row.setLength(0);
+                for (long[] column : this.columns) {
+                    if (row.length() > 0) {
+                        row.append(",");
+                    }
+                    row.append(column[i]);
+                }
+                writer.println(row);
             }
         } catch (IOException ex) {
             // Having to include a "throws IOException" in our method headers everywhere
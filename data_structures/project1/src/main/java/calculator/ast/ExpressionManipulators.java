@@ -3,10 +3,12 @@ package calculator.ast;
 import calculator.interpreter.Environment;
 import calculator.errors.EvaluationError;
 import datastructures.interfaces.IDictionary;
-import datastructures.concrete.DoubleLinkedList;
-import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.DoubleArrayList;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
 import datastructures.interfaces.IList;
 
+import java.util.Iterator;
+
 /**
  * All of the public static methods in this class are given the exact same parameters for
  * consistency. You can often ignore some of these parameters when implementing your
@@ -109,13 +111,10 @@ public class ExpressionManipulators {
     // extra method to deal with reducing 
     private static double toDoubleChildReduce(IDictionary<String, AstNode> variables, AstNode node) {
         // use a reduce function starting with the first child
-        double result = toDoubleHelper(variables, node.getChildren().get(0));
-        for (AstNode child : node.getChildren()) {
-            // skip child inside iterator because it's already been eval'd
-            if (child == node.getChildren().get(0)) {
-                continue;
-            }
-            double childValue = toDoubleHelper(variables, child);
+        Iterator<AstNode> children = node.getChildren().iterator();
+        double result = toDoubleHelper(variables, children.next());
+        while (children.hasNext()) {
+            double childValue = toDoubleHelper(variables, children.next());
             switch (node.getName()) {
                 case "*": result *= childValue;
                     break;
@@ -283,7 +282,7 @@ public class ExpressionManipulators {
         IList<AstNode> children = node.getChildren();
 
         // Get variables
-        IDictionary<String, AstNode> variables = env.getVariables();        
+        PersistentHashDictionary<String, AstNode> variables = env.getVariables();
         
         // Get number for begin and end -- stepper starts as varMin
         double stepper = toDoubleHelper(variables, children.get(2));
@@ -309,8 +308,8 @@ public class ExpressionManipulators {
         }
         
         // Create lists to store points to plot
-        IList<Double> xVals = new DoubleLinkedList<>();
-        IList<Double> yVals = new DoubleLinkedList<>();
+        DoubleArrayList xVals = new DoubleArrayList();
+        DoubleArrayList yVals = new DoubleArrayList();
         
         // attempt to simplify expression for optimization purposes
         // (if something breaks, maybe fix this)
@@ -318,16 +317,14 @@ public class ExpressionManipulators {
         
         // step through and generate list
         while (stepper <= varMax) {
-        	xVals.add(stepper);   // add x point
-        	// update variable value
-        	variables.put(var.getName(), new AstNode(stepper));
-        	yVals.add(toDoubleHelper(variables, expr));   // add y point
+        	xVals.addDouble(stepper);   // add x point
+        	// bind the variable in a new version of the dictionary, leaving env alone
+        	yVals.addDouble(toDoubleHelper(variables.with(var.getName(), new AstNode(stepper)), expr));   // add y point
         	stepper += step;
         }
         
         // note: graph name is left empty intentionally (replace if needed)
         env.getImageDrawer().drawScatterPlot("", "x axis", "y axis", xVals, yVals);
-        variables.remove(var.getName());
         
         // Note: every single function we add MUST return an
         // AST node that your "simplify" function is capable of handling.
@@ -395,23 +392,19 @@ public class ExpressionManipulators {
         double f;  // f(x)
         double df; // f(x+dx)
 
-        // define new "variable" dictionaries so that updating is fast
-        IDictionary<String, AstNode> xMapping = new ArrayDictionary<>();
-        IDictionary<String, AstNode> dxMapping = new ArrayDictionary<>();
+        // the only variable left to bind is the one we're solving for; each step binds
+        // it in a new version of this (empty) dictionary
+        PersistentHashDictionary<String, AstNode> noVariables = new PersistentHashDictionary<>();
         
         // get initial function value
-        xMapping.put(varName, new AstNode(x));
-        f = toDoubleHelper(xMapping, equationToSolve);
+        f = toDoubleHelper(noVariables.with(varName, new AstNode(x)), equationToSolve);
         
         // must check for infinite loop, eg. sin(x) = 5
         int counter = 0;
         while (Math.abs(f) > tolerance && counter < timeout) {
-            // update variable values
-            xMapping.put(varName, new AstNode(x));
-            dxMapping.put(varName, new AstNode(x + dx));
             // get function values
-            f = toDoubleHelper(xMapping, equationToSolve);
-            df = toDoubleHelper(dxMapping, equationToSolve);
+            f = toDoubleHelper(noVariables.with(varName, new AstNode(x)), equationToSolve);
+            df = toDoubleHelper(noVariables.with(varName, new AstNode(x + dx)), equationToSolve);
             // update x using newton's method
             x = x - (f / (df - f));
             counter++;
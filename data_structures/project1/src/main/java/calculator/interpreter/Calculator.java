@@ -7,8 +7,9 @@ import calculator.ast.ControlFlowManipulators;
 import calculator.ast.ExpressionManipulators;
 import calculator.gui.ImageDrawer;
 import calculator.parser.Parser;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ListFactory;
 import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -20,7 +21,7 @@ public class Calculator {
     private Interpreter interpreter;
 
     // State
-    private IDictionary<String, AstNode> variables;
+    private PersistentHashDictionary<String, AstNode> variables;
     private ImageDrawer imageDrawer;
 
     // Internal data
@@ -39,7 +40,7 @@ public class Calculator {
         this.parser = new Parser();
         this.interpreter = new Interpreter();
 
-        this.variables = new ArrayDictionary<>();
+        this.variables = new PersistentHashDictionary<>();
         this.imageDrawer = imageDrawer;
 
         this.customFunctions = new ArrayDictionary<>();
@@ -107,7 +108,7 @@ public class Calculator {
         } else if (node.isVariable()) {
             return node;
         } else {
-            IList<AstNode> newChildren = new DoubleLinkedList<>();
+            IList<AstNode> newChildren = ListFactory.makeRandomAccessList(node.getChildren().size());
             for (AstNode oldChild : node.getChildren()) {
                 newChildren.add(injectSimplifyHelper(env, oldChild));
             }
@@ -128,7 +129,7 @@ public class Calculator {
         if (inner.isOperation() && inner.getName().equals("simplify")) {
             return inner;
         } else {
-            IList<AstNode> children = new DoubleLinkedList<>();
+            IList<AstNode> children = ListFactory.makeRandomAccessList(1);
             children.add(inner);
             return new AstNode("simplify", children);
         }
@@ -160,7 +161,7 @@ public class Calculator {
             int currPrecedenceLevel = hasPrecedence ? this.precedenceMap.get(name) : STRONGEST_PRECEDENCE;
             int childPrecedenceLevel = hasPrecedence ? currPrecedenceLevel : WEAKEST_PRECEDENCE;
 
-            IList<String> children = new DoubleLinkedList<>();
+            IList<String> children = ListFactory.makeRandomAccessList(node.getChildren().size());
             for (AstNode child : node.getChildren()) {
                 children.add(this.convertToString(child, childPrecedenceLevel));
             }
@@ -3,6 +3,7 @@ package calculator.interpreter;
 import calculator.ast.AstNode;
 import calculator.ast.AstManipulator;
 import calculator.gui.ImageDrawer;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
 import datastructures.interfaces.IDictionary;
 
 /**
@@ -21,13 +22,13 @@ import datastructures.interfaces.IDictionary;
  * the code you were provided.
  */
 public class Environment {
-    private IDictionary<String, AstNode> variables;
+    private PersistentHashDictionary<String, AstNode> variables;
     private ImageDrawer imageDrawer;
     private IDictionary<String, AstManipulator> customFunctions;
     private IDictionary<String, AstManipulator> specialFunctions;
     private Interpreter interpreter;
 
-    public Environment(IDictionary<String, AstNode> variables,
+    public Environment(PersistentHashDictionary<String, AstNode> variables,
                        ImageDrawer imageDrawer,
                        IDictionary<String, AstManipulator> customFunctions,
                        IDictionary<String, AstManipulator> specialFunctions,
@@ -41,8 +42,13 @@ public class Environment {
 
     /**
      * Contains a map of every single currently defined variable.
+     *
+     * To evaluate something with a temporary variable, use 'with' to get a new
+     * dictionary containing it instead of putting it into (and later removing it from)
+     * this one: the new dictionary shares almost all of its structure with this one,
+     * so this is cheap, and it leaves the environment untouched.
      */
-    public IDictionary<String, AstNode> getVariables() {
+    public PersistentHashDictionary<String, AstNode> getVariables() {
         return this.variables;
     }
 
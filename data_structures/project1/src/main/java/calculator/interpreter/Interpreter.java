@@ -1,7 +1,7 @@
 package calculator.interpreter;
 
 import calculator.ast.AstNode;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ListFactory;
 import datastructures.interfaces.IList;
 
 public class Interpreter {
@@ -19,7 +19,7 @@ public class Interpreter {
                 // Regular, custom functions are executed normally:
                 // we first execute the children before handing control back
                 // to the regular function (if one exists)
-                IList<AstNode> children = new DoubleLinkedList<>();
+                IList<AstNode> children = ListFactory.makeRandomAccessList(node.getChildren().size());
                 for (AstNode oldChild : node.getChildren()) {
                     children.add(evaluate(env, oldChild));
                 }
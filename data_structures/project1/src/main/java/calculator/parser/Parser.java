@@ -6,7 +6,7 @@ import calculator.errors.ParseError;
 import calculator.parser.grammar.CalculatorGrammarLexer;
 import calculator.parser.grammar.CalculatorGrammarParser;
 import calculator.parser.grammar.CalculatorGrammarParserBaseVisitor;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ListFactory;
 import datastructures.interfaces.IList;
 import org.antlr.v4.runtime.*;
 
@@ -85,7 +85,7 @@ public class Parser {
 
     private static class AstConverter extends CalculatorGrammarParserBaseVisitor<AstNode> {
         private IList<AstNode> asList(AstNode... nodes) {
-            IList<AstNode> list = new DoubleLinkedList<>();
+            IList<AstNode> list = ListFactory.makeRandomAccessList(nodes.length);
             for (AstNode node : nodes) {
                 list.add(node);
             }
@@ -94,7 +94,7 @@ public class Parser {
 
         @Override
         public AstNode visitProgram(CalculatorGrammarParser.ProgramContext ctx) {
-            IList<AstNode> params = new DoubleLinkedList<>();
+            IList<AstNode> params = ListFactory.makeRandomAccessList(ctx.statements.size());
             for (CalculatorGrammarParser.StatementContext stmt : ctx.statements) {
                 params.add(this.visit(stmt));
             }
@@ -193,7 +193,7 @@ public class Parser {
         }
 
         private IList<AstNode> parseArgList(CalculatorGrammarParser.ArglistContext args) {
-            IList<AstNode> out = new DoubleLinkedList<>();
+            IList<AstNode> out = ListFactory.makeRandomAccessList(args.values.size());
             for (CalculatorGrammarParser.AddExprContext item : args.values) {
                 out.add(this.visit(item));
             }
@@ -0,0 +1,185 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An IList backed by a single growable array.
+ *
+ * Unlike DoubleLinkedList, get and set run in O(1) time and add runs in amortized
+ * O(1) time, and there is no per-element node object. Inserting or deleting
+ * anywhere other than the end is O(n), since later elements need to be shifted.
+ *
+ * Note: For more info on the expected behavior of these methods, see
+ * the source code for IList.
+ */
+public class ArrayList<T> implements IList<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // Shared by every list constructed with an initial capacity of zero, so that
+    // empty lists (such as the children of leaf AstNodes) don't allocate anything.
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private T[] array;
+    private int size;
+
+    public ArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a list that can hold 'initialCapacity' elements before resizing.
+     *
+     * @throws IllegalArgumentException  if initialCapacity is negative
+     */
+    public ArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.array = initialCapacity == 0 ? makeEmptyArray() : this.makeArrayOfT(initialCapacity);
+        this.size = 0;
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain objects of type T.
+     */
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] makeEmptyArray() {
+        return (T[]) EMPTY_ARRAY;
+    }
+
+    private boolean compareGeneric(T data, T other) {
+        return data == other || (data != null && data.equals(other));
+    }
+
+    @Override
+    public void add(T item) {
+        if (this.size == this.array.length) {
+            this.grow();
+        }
+        this.array[this.size] = item;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        T removed = this.array[this.size];
+        // clear the slot so the removed item can be garbage collected
+        this.array[this.size] = null;
+        return removed;
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index);
+        return this.array[index];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index);
+        this.array[index] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (this.size == this.array.length) {
+            this.grow();
+        }
+        System.arraycopy(this.array, index, this.array, index + 1, this.size - index);
+        this.array[index] = item;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index);
+        T removed = this.array[index];
+        System.arraycopy(this.array, index + 1, this.array, index, this.size - index - 1);
+        this.size--;
+        this.array[this.size] = null;
+        return removed;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.compareGeneric(this.array[i], item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator<>(this.array, this.size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    // Doubles the capacity of the backing array (or allocates the default capacity
+    // if the array is currently empty).
+    private void grow() {
+        int newCapacity = Math.max(DEFAULT_CAPACITY, this.array.length * 2);
+        this.array = Arrays.copyOf(this.array, newCapacity);
+    }
+
+    private static class ArrayListIterator<T> implements Iterator<T> {
+        private T[] array;
+        private int size;
+        private int index;
+
+        public ArrayListIterator(T[] array, int size) {
+            this.array = array;
+            this.size = size;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.size;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T data = this.array[this.index];
+            this.index++;
+            return data;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An IList of doubles that stores its elements in a flat double array instead of
+ * boxing each one.
+ *
+ * The boxed methods from IList all work, but callers that care about speed (and
+ * memory) should use the primitive methods (addDouble, getDouble...) instead.
+ *
+ * Note: this list does not support null elements.
+ */
+public class DoubleArrayList implements IList<Double> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private double[] array;
+    private int size;
+
+    public DoubleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a list that can hold 'initialCapacity' elements before resizing.
+     *
+     * @throws IllegalArgumentException  if initialCapacity is negative
+     */
+    public DoubleArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.array = new double[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the given number to the end of this list.
+     */
+    public void addDouble(double item) {
+        if (this.size == this.array.length) {
+            this.grow();
+        }
+        this.array[this.size] = item;
+        this.size++;
+    }
+
+    /**
+     * Returns the number located at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public double getDouble(int index) {
+        this.checkIndex(index);
+        return this.array[index];
+    }
+
+    /**
+     * Overwrites the number located at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public void setDouble(int index, double item) {
+        this.checkIndex(index);
+        this.array[index] = item;
+    }
+
+    /**
+     * Returns a new array containing every number in this list, in order.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(this.array, this.size);
+    }
+
+    @Override
+    public void add(Double item) {
+        this.addDouble(unbox(item));
+    }
+
+    @Override
+    public Double remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        return this.array[this.size];
+    }
+
+    @Override
+    public Double get(int index) {
+        return this.getDouble(index);
+    }
+
+    @Override
+    public void set(int index, Double item) {
+        this.setDouble(index, unbox(item));
+    }
+
+    @Override
+    public void insert(int index, Double item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        double value = unbox(item);
+        if (this.size == this.array.length) {
+            this.grow();
+        }
+        System.arraycopy(this.array, index, this.array, index + 1, this.size - index);
+        this.array[index] = value;
+        this.size++;
+    }
+
+    @Override
+    public Double delete(int index) {
+        this.checkIndex(index);
+        double removed = this.array[index];
+        System.arraycopy(this.array, index + 1, this.array, index, this.size - index - 1);
+        this.size--;
+        return removed;
+    }
+
+    @Override
+    public int indexOf(Double item) {
+        if (item == null) {
+            return -1;
+        }
+        for (int i = 0; i < this.size; i++) {
+            // compare the same way Double.equals does, so NaN can be found
+            if (Double.doubleToLongBits(this.array[i]) == Double.doubleToLongBits(item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Double other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new DoubleArrayListIterator(this.array, this.size);
+    }
+
+    private static double unbox(Double item) {
+        if (item == null) {
+            throw new IllegalArgumentException("DoubleArrayList does not support null elements");
+        }
+        return item;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void grow() {
+        int newCapacity = Math.max(DEFAULT_CAPACITY, this.array.length * 2);
+        this.array = Arrays.copyOf(this.array, newCapacity);
+    }
+
+    private static class DoubleArrayListIterator implements Iterator<Double> {
+        private double[] array;
+        private int size;
+        private int index;
+
+        public DoubleArrayListIterator(double[] array, int size) {
+            this.array = array;
+            this.size = size;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.size;
+        }
+
+        @Override
+        public Double next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            double data = this.array[this.index];
+            this.index++;
+            return data;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+
+/**
+ * Constructs IList objects, so that callers can pick an implementation based on
+ * how they plan to use the list instead of hard-coding a concrete class.
+ *
+ * - Random-access lists (ArrayList) are the right choice for almost everything:
+ *   get, set and add are all fast, and they use much less memory.
+ * - Linked lists (DoubleLinkedList) are only better when the caller repeatedly
+ *   inserts or deletes near the front of a large list.
+ */
+public class ListFactory {
+    private ListFactory() {
+        // This class only contains static methods.
+    }
+
+    /**
+     * Returns a new, empty list with O(1) get and set.
+     */
+    public static <T> IList<T> makeRandomAccessList() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Returns a new, empty list with O(1) get and set that can hold 'expectedSize'
+     * elements before resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public static <T> IList<T> makeRandomAccessList(int expectedSize) {
+        return new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Returns a new, empty list with O(1) insertion and deletion at either end.
+     */
+    public static <T> IList<T> makeLinkedList() {
+        return new DoubleLinkedList<>();
+    }
+}
@@ -0,0 +1,199 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An IList of longs that stores its elements in a flat long array instead of
+ * boxing each one.
+ *
+ * The boxed methods from IList all work, but callers that care about speed (and
+ * memory) should use the primitive methods (addLong, getLong...) instead.
+ *
+ * Note: this list does not support null elements.
+ */
+public class LongArrayList implements IList<Long> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] array;
+    private int size;
+
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a list that can hold 'initialCapacity' elements before resizing.
+     *
+     * @throws IllegalArgumentException  if initialCapacity is negative
+     */
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.array = new long[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the given number to the end of this list.
+     */
+    public void addLong(long item) {
+        if (this.size == this.array.length) {
+            this.grow();
+        }
+        this.array[this.size] = item;
+        this.size++;
+    }
+
+    /**
+     * Returns the number located at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public long getLong(int index) {
+        this.checkIndex(index);
+        return this.array[index];
+    }
+
+    /**
+     * Overwrites the number located at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public void setLong(int index, long item) {
+        this.checkIndex(index);
+        this.array[index] = item;
+    }
+
+    /**
+     * Returns a new array containing every number in this list, in order.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(this.array, this.size);
+    }
+
+    @Override
+    public void add(Long item) {
+        this.addLong(unbox(item));
+    }
+
+    @Override
+    public Long remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        return this.array[this.size];
+    }
+
+    @Override
+    public Long get(int index) {
+        return this.getLong(index);
+    }
+
+    @Override
+    public void set(int index, Long item) {
+        this.setLong(index, unbox(item));
+    }
+
+    @Override
+    public void insert(int index, Long item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        long value = unbox(item);
+        if (this.size == this.array.length) {
+            this.grow();
+        }
+        System.arraycopy(this.array, index, this.array, index + 1, this.size - index);
+        this.array[index] = value;
+        this.size++;
+    }
+
+    @Override
+    public Long delete(int index) {
+        this.checkIndex(index);
+        long removed = this.array[index];
+        System.arraycopy(this.array, index + 1, this.array, index, this.size - index - 1);
+        this.size--;
+        return removed;
+    }
+
+    @Override
+    public int indexOf(Long item) {
+        if (item == null) {
+            return -1;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (this.array[i] == item) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Long other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new LongArrayListIterator(this.array, this.size);
+    }
+
+    private static long unbox(Long item) {
+        if (item == null) {
+            throw new IllegalArgumentException("LongArrayList does not support null elements");
+        }
+        return item;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void grow() {
+        int newCapacity = Math.max(DEFAULT_CAPACITY, this.array.length * 2);
+        this.array = Arrays.copyOf(this.array, newCapacity);
+    }
+
+    private static class LongArrayListIterator implements Iterator<Long> {
+        private long[] array;
+        private int size;
+        private int index;
+
+        public LongArrayListIterator(long[] array, int size) {
+            this.array = array;
+            this.size = size;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.size;
+        }
+
+        @Override
+        public Long next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long data = this.array[this.index];
+            this.index++;
+            return data;
+        }
+    }
+}
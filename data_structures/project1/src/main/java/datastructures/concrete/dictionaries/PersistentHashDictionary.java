@@ -0,0 +1,384 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+/**
+ * A hash dictionary stored as a hash array mapped trie (HAMT): a tree where each level
+ * uses the next 5 bits of a key's hash code to pick one of up to 32 children.
+ *
+ * The nodes of the tree are never modified. Instead, 'with' and 'without' build a new
+ * dictionary by copying just the O(log32 n) nodes on the path to the changed key and
+ * sharing every other node with the original. This makes it cheap to:
+ *
+ * - Take a snapshot of a dictionary (O(1)) that later puts and removes won't affect.
+ * - Try out a temporary binding, like 'x = 3' while plotting, without touching the
+ *   original dictionary at all.
+ * - Read the same dictionary from many threads at once, since nothing is ever
+ *   modified in place.
+ *
+ * put and remove are also supported, so this class can be used anywhere an IDictionary
+ * is expected: they replace this dictionary's tree with the new version, and leave any
+ * earlier snapshots alone.
+ */
+public class PersistentHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private Node<K, V> root;
+    private int size;
+
+    /**
+     * Constructs a new, empty dictionary.
+     */
+    public PersistentHashDictionary() {
+        this(null, 0);
+    }
+
+    private PersistentHashDictionary(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns a new dictionary containing every pair in this one, plus the given pair
+     * (replacing any existing value for the key). This dictionary is not modified.
+     */
+    public PersistentHashDictionary<K, V> with(K key, V value) {
+        int hash = hash(key);
+        boolean isNew = this.find(key, hash) == null;
+        Node<K, V> newRoot = this.root == null
+                ? new Leaf<>(key, hash, value)
+                : this.root.put(key, hash, value, 0);
+        if (newRoot == this.root) {
+            return this;
+        }
+        return new PersistentHashDictionary<>(newRoot, isNew ? this.size + 1 : this.size);
+    }
+
+    /**
+     * Returns a new dictionary containing every pair in this one except the one with
+     * the given key. This dictionary is not modified.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public PersistentHashDictionary<K, V> without(K key) {
+        int hash = hash(key);
+        if (this.find(key, hash) == null) {
+            throw new NoSuchKeyException();
+        }
+        return new PersistentHashDictionary<>(this.root.remove(key, hash, 0), this.size - 1);
+    }
+
+    /**
+     * Returns a copy of this dictionary in O(1) time. Later changes to either one do
+     * not affect the other.
+     */
+    public PersistentHashDictionary<K, V> snapshot() {
+        return new PersistentHashDictionary<>(this.root, this.size);
+    }
+
+    @Override
+    public V get(K key) {
+        Leaf<K, V> leaf = this.find(key, hash(key));
+        if (leaf == null) {
+            throw new NoSuchKeyException();
+        }
+        return leaf.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Leaf<K, V> leaf = this.find(key, hash(key));
+        return leaf == null ? defaultValue : leaf.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        PersistentHashDictionary<K, V> updated = this.with(key, value);
+        this.root = updated.root;
+        this.size = updated.size;
+    }
+
+    @Override
+    public V remove(K key) {
+        V value = this.get(key);
+        PersistentHashDictionary<K, V> updated = this.without(key);
+        this.root = updated.root;
+        this.size = updated.size;
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.find(key, hash(key)) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private Leaf<K, V> find(K key, int hash) {
+        return this.root == null ? null : this.root.find(key, hash, 0);
+    }
+
+    private static int hash(Object key) {
+        // Hashes to 0 if the key is null
+        if (key == null) {
+            return 0;
+        }
+        // mix the bits so that the low levels of the trie depend on the whole hash code
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean keysEqual(Object key, Object other) {
+        return key == other || (key != null && key.equals(other));
+    }
+
+    // Returns which of a node's 32 children the given hash belongs in at this level.
+    private static int childIndex(int hash, int shift) {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    /**
+     * Builds the smallest subtree containing two nodes whose (different) hashes agree on
+     * every level above 'shift'.
+     */
+    private static <K, V> Node<K, V> merge(Node<K, V> first, int firstHash,
+                                           Node<K, V> second, int secondHash, int shift) {
+        int firstIndex = childIndex(firstHash, shift);
+        int secondIndex = childIndex(secondHash, shift);
+        if (firstIndex == secondIndex) {
+            Node<K, V>[] children = makeArrayOfNodes(1);
+            children[0] = merge(first, firstHash, second, secondHash, shift + BITS_PER_LEVEL);
+            return new BitmapNode<>(1 << firstIndex, children);
+        }
+        Node<K, V>[] children = makeArrayOfNodes(2);
+        children[firstIndex < secondIndex ? 0 : 1] = first;
+        children[firstIndex < secondIndex ? 1 : 0] = second;
+        return new BitmapNode<>((1 << firstIndex) | (1 << secondIndex), children);
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain Node<K, V> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] makeArrayOfNodes(int arraySize) {
+        return (Node<K, V>[]) new Node[arraySize];
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain Leaf<K, V> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Leaf<K, V>[] makeArrayOfLeaves(int arraySize) {
+        return (Leaf<K, V>[]) new Leaf[arraySize];
+    }
+
+    /**
+     * A node of the trie. Nodes are immutable: put and remove return a new node (or
+     * 'this', if nothing changed).
+     */
+    private abstract static class Node<K, V> {
+        /**
+         * Returns the leaf holding the given key, or null if there is none.
+         */
+        public abstract Leaf<K, V> find(K key, int hash, int shift);
+
+        /**
+         * Returns a node containing everything in this one, plus the given pair.
+         */
+        public abstract Node<K, V> put(K key, int hash, V value, int shift);
+
+        /**
+         * Returns a node containing everything in this one except the given key, or null
+         * if that would leave the node empty. The key must be present.
+         */
+        public abstract Node<K, V> remove(K key, int hash, int shift);
+    }
+
+    private static class Leaf<K, V> extends Node<K, V> {
+        private final K key;
+        private final int hash;
+        private final V value;
+
+        public Leaf(K key, int hash, V value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+
+        @Override
+        public Leaf<K, V> find(K otherKey, int otherHash, int shift) {
+            return otherHash == this.hash && keysEqual(this.key, otherKey) ? this : null;
+        }
+
+        @Override
+        public Node<K, V> put(K newKey, int newHash, V newValue, int shift) {
+            Leaf<K, V> leaf = new Leaf<>(newKey, newHash, newValue);
+            if (newHash != this.hash) {
+                return merge(this, this.hash, leaf, newHash, shift);
+            } else if (keysEqual(this.key, newKey)) {
+                return this.value == newValue ? this : leaf;
+            } else {
+                Leaf<K, V>[] leaves = makeArrayOfLeaves(2);
+                leaves[0] = this;
+                leaves[1] = leaf;
+                return new CollisionNode<>(this.hash, leaves);
+            }
+        }
+
+        @Override
+        public Node<K, V> remove(K otherKey, int otherHash, int shift) {
+            return null;
+        }
+    }
+
+    /**
+     * An inner node. Bit i of 'bitmap' is set if the node has a child for index i, and
+     * the children are stored in order of index, with no gaps.
+     */
+    private static class BitmapNode<K, V> extends Node<K, V> {
+        private final int bitmap;
+        private final Node<K, V>[] children;
+
+        public BitmapNode(int bitmap, Node<K, V>[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        // Returns the position in 'children' of the child with the given bit.
+        private int position(int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1));
+        }
+
+        @Override
+        public Leaf<K, V> find(K key, int hash, int shift) {
+            int bit = 1 << childIndex(hash, shift);
+            if ((this.bitmap & bit) == 0) {
+                return null;
+            }
+            return this.children[this.position(bit)].find(key, hash, shift + BITS_PER_LEVEL);
+        }
+
+        @Override
+        public Node<K, V> put(K key, int hash, V value, int shift) {
+            int bit = 1 << childIndex(hash, shift);
+            int position = this.position(bit);
+            if ((this.bitmap & bit) == 0) {
+                Node<K, V>[] newChildren = makeArrayOfNodes(this.children.length + 1);
+                System.arraycopy(this.children, 0, newChildren, 0, position);
+                newChildren[position] = new Leaf<>(key, hash, value);
+                System.arraycopy(this.children, position, newChildren, position + 1,
+                        this.children.length - position);
+                return new BitmapNode<>(this.bitmap | bit, newChildren);
+            }
+
+            Node<K, V> child = this.children[position];
+            Node<K, V> newChild = child.put(key, hash, value, shift + BITS_PER_LEVEL);
+            if (newChild == child) {
+                return this;
+            }
+            Node<K, V>[] newChildren = this.children.clone();
+            newChildren[position] = newChild;
+            return new BitmapNode<>(this.bitmap, newChildren);
+        }
+
+        @Override
+        public Node<K, V> remove(K key, int hash, int shift) {
+            int bit = 1 << childIndex(hash, shift);
+            int position = this.position(bit);
+            Node<K, V> newChild = this.children[position].remove(key, hash, shift + BITS_PER_LEVEL);
+
+            if (newChild != null) {
+                // a lone leaf doesn't need a node of its own; pull it up a level
+                if (this.children.length == 1 && newChild instanceof Leaf) {
+                    return newChild;
+                }
+                Node<K, V>[] newChildren = this.children.clone();
+                newChildren[position] = newChild;
+                return new BitmapNode<>(this.bitmap, newChildren);
+            }
+
+            if (this.children.length == 1) {
+                return null;
+            }
+            if (this.children.length == 2 && this.children[1 - position] instanceof Leaf) {
+                return this.children[1 - position];
+            }
+            Node<K, V>[] newChildren = makeArrayOfNodes(this.children.length - 1);
+            System.arraycopy(this.children, 0, newChildren, 0, position);
+            System.arraycopy(this.children, position + 1, newChildren, position,
+                    this.children.length - position - 1);
+            return new BitmapNode<>(this.bitmap & ~bit, newChildren);
+        }
+    }
+
+    /**
+     * Holds several keys whose hash codes are exactly equal.
+     */
+    private static class CollisionNode<K, V> extends Node<K, V> {
+        private final int hash;
+        private final Leaf<K, V>[] leaves;
+
+        public CollisionNode(int hash, Leaf<K, V>[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < this.leaves.length; i++) {
+                if (keysEqual(this.leaves[i].key, key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Leaf<K, V> find(K key, int otherHash, int shift) {
+            if (otherHash != this.hash) {
+                return null;
+            }
+            int index = this.indexOf(key);
+            return index == -1 ? null : this.leaves[index];
+        }
+
+        @Override
+        public Node<K, V> put(K key, int otherHash, V value, int shift) {
+            Leaf<K, V> leaf = new Leaf<>(key, otherHash, value);
+            if (otherHash != this.hash) {
+                return merge(this, this.hash, leaf, otherHash, shift);
+            }
+            int index = this.indexOf(key);
+            Leaf<K, V>[] newLeaves;
+            if (index == -1) {
+                newLeaves = makeArrayOfLeaves(this.leaves.length + 1);
+                System.arraycopy(this.leaves, 0, newLeaves, 0, this.leaves.length);
+                newLeaves[this.leaves.length] = leaf;
+            } else if (this.leaves[index].value == value) {
+                return this;
+            } else {
+                newLeaves = this.leaves.clone();
+                newLeaves[index] = leaf;
+            }
+            return new CollisionNode<>(this.hash, newLeaves);
+        }
+
+        @Override
+        public Node<K, V> remove(K key, int otherHash, int shift) {
+            int index = this.indexOf(key);
+            if (this.leaves.length == 2) {
+                return this.leaves[1 - index];
+            }
+            Leaf<K, V>[] newLeaves = makeArrayOfLeaves(this.leaves.length - 1);
+            System.arraycopy(this.leaves, 0, newLeaves, 0, index);
+            System.arraycopy(this.leaves, index + 1, newLeaves, index, this.leaves.length - index - 1);
+            return new CollisionNode<>(this.hash, newLeaves);
+        }
+    }
+}
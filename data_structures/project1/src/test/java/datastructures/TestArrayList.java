@@ -0,0 +1,184 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.ArrayList;
+import datastructures.concrete.ListFactory;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestArrayList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new ArrayList<>();
+
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        return list;
+    }
+
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void basicTestAddAndGetBasic() {
+        IList<String> list = makeBasicList();
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void basicTestSetAndRemove() {
+        IList<String> list = makeBasicList();
+        list.set(1, "d");
+        this.assertListMatches(new String[] {"a", "d", "c"}, list);
+
+        assertEquals("c", list.remove());
+        assertEquals("d", list.remove());
+        assertEquals("a", list.remove());
+        this.assertListMatches(new String[] {}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveOnEmptyListThrowsException() {
+        IList<String> list = new ArrayList<>(0);
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutOfBoundsThrowsException() {
+        IList<String> list = makeBasicList();
+        int[] badIndices = new int[] {-1, 3, 4};
+        for (int index : badIndices) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException from get(" + index + ")");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.set(index, "x");
+                fail("Expected IndexOutOfBoundsException from set(" + index + ")");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException from delete(" + index + ")");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+
+        try {
+            list.insert(4, "x");
+            fail("Expected IndexOutOfBoundsException from insert(4)");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNegativeCapacityThrowsException() {
+        try {
+            new ArrayList<String>(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAndDelete() {
+        IList<String> list = makeBasicList();
+        list.insert(0, "x");
+        list.insert(2, "y");
+        list.insert(5, "z");
+        this.assertListMatches(new String[] {"x", "a", "y", "b", "c", "z"}, list);
+
+        assertEquals("y", list.delete(2));
+        assertEquals("x", list.delete(0));
+        assertEquals("z", list.delete(3));
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexOfAndContains() {
+        IList<String> list = makeBasicList();
+        list.add(null);
+        list.add("a");
+
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("d"));
+        assertTrue(list.contains(null));
+        assertTrue(list.contains(new String("c")));
+        assertFalse(list.contains("d"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testGrowFromEmpty() {
+        IList<Integer> list = new ArrayList<>(0);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIterator() {
+        IList<String> list = makeBasicList();
+        Iterator<String> iter = list.iterator();
+        for (String expected : new String[] {"a", "b", "c"}) {
+            assertTrue(iter.hasNext());
+            assertEquals(expected, iter.next());
+        }
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testGetAndSetAreEfficient() {
+        IList<Integer> list = ListFactory.makeRandomAccessList();
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < cap; i++) {
+            list.set(i, list.get(i) * 2);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i * 2, list.get(i));
+        }
+    }
+}
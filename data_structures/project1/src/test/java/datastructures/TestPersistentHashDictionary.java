@@ -0,0 +1,144 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPersistentHashDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutGetRemoveBasic() {
+        IDictionary<String, String> dict = new PersistentHashDictionary<>();
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        dict.put("keyA", "valC");
+        dict.put(null, "valNull");
+
+        assertEquals(3, dict.size());
+        assertEquals("valC", dict.get("keyA"));
+        assertEquals("valNull", dict.get(null));
+        assertEquals("default", dict.getOrDefault("keyD", "default"));
+
+        assertEquals("valC", dict.remove("keyA"));
+        assertFalse(dict.containsKey("keyA"));
+        assertEquals(2, dict.size());
+
+        try {
+            dict.get("keyA");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove("keyA");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testOldVersionsAreUnchanged() {
+        PersistentHashDictionary<String, Integer> empty = new PersistentHashDictionary<>();
+        PersistentHashDictionary<String, Integer> one = empty.with("a", 1);
+        PersistentHashDictionary<String, Integer> two = one.with("b", 2);
+        PersistentHashDictionary<String, Integer> replaced = two.with("a", 3);
+        PersistentHashDictionary<String, Integer> removed = replaced.without("b");
+
+        assertEquals(0, empty.size());
+        assertFalse(empty.containsKey("a"));
+        assertEquals(1, one.size());
+        assertFalse(one.containsKey("b"));
+        assertEquals(1, two.get("a"));
+        assertEquals(3, replaced.get("a"));
+        assertEquals(2, replaced.get("b"));
+        assertEquals(1, removed.size());
+        assertFalse(removed.containsKey("b"));
+        assertEquals(3, removed.get("a"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSnapshotIsIndependent() {
+        PersistentHashDictionary<Integer, Integer> dict = new PersistentHashDictionary<>();
+        for (int i = 0; i < 100; i++) {
+            dict.put(i, i);
+        }
+        PersistentHashDictionary<Integer, Integer> snapshot = dict.snapshot();
+        for (int i = 0; i < 100; i += 2) {
+            dict.remove(i);
+        }
+        dict.put(1, -1);
+
+        assertEquals(50, dict.size());
+        assertEquals(100, snapshot.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, snapshot.get(i));
+        }
+        assertEquals(-1, dict.get(1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingHashCodes() {
+        PersistentHashDictionary<Wrapper, Integer> dict = new PersistentHashDictionary<>();
+        for (int i = 0; i < 50; i++) {
+            dict.put(new Wrapper(i, i % 3), i);
+        }
+        assertEquals(50, dict.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, dict.get(new Wrapper(i, i % 3)));
+        }
+        assertFalse(dict.containsKey(new Wrapper(50, 0)));
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, dict.remove(new Wrapper(i, i % 3)));
+            assertFalse(dict.containsKey(new Wrapper(i, i % 3)));
+            assertEquals(49 - i, dict.size());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddRemoveMany() {
+        PersistentHashDictionary<Integer, Integer> dict = new PersistentHashDictionary<>();
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            dict.put(i * 31, i);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, dict.get(i * 31));
+            assertFalse(dict.containsKey(i * 31 + 1));
+        }
+        for (int i = 0; i < cap; i++) {
+            dict.remove(i * 31);
+        }
+        assertTrue(dict.isEmpty());
+    }
+
+    private static class Wrapper {
+        private final int value;
+        private final int hashCode;
+
+        public Wrapper(int value, int hashCode) {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Wrapper && ((Wrapper) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package datastructures;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.DoubleArrayList;
+import datastructures.concrete.LongArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPrimitiveArrayLists extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testDoubleListBoxedAndUnboxedAgree() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.5);
+        list.add(2.5);
+        list.insert(0, 0.5);
+
+        assertEquals(3, list.size());
+        assertEquals(0.5, list.get(0));
+        assertEquals(1.5, list.getDouble(1));
+        assertEquals(2.5, list.getDouble(2));
+
+        list.setDouble(1, -1.0);
+        assertEquals(-1.0, list.get(1));
+        assertEquals(1, list.indexOf(-1.0));
+        assertFalse(list.contains(1.5));
+        assertFalse(list.contains(null));
+
+        assertArrayEquals(new double[] {0.5, -1.0, 2.5}, list.toArray(), 0.0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testDoubleListFindsNaN() {
+        DoubleArrayList list = new DoubleArrayList();
+        list.addDouble(1.0);
+        list.addDouble(Double.NaN);
+        assertEquals(1, list.indexOf(Double.NaN));
+    }
+
+    @Test(timeout=SECOND)
+    public void testLongListBoxedAndUnboxedAgree() {
+        LongArrayList list = new LongArrayList(0);
+        for (long i = 0; i < 100; i++) {
+            list.addLong(i);
+        }
+        assertEquals(100, list.size());
+        assertEquals(42L, list.get(42));
+        assertEquals(42L, list.getLong(42));
+
+        assertEquals(99L, list.remove());
+        assertEquals(0L, list.delete(0));
+        assertEquals(98, list.size());
+        assertEquals(1L, list.getLong(0));
+        assertTrue(list.contains(50L));
+        assertEquals(49, list.indexOf(50L));
+
+        long[] array = list.toArray();
+        assertEquals(98, array.length);
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i + 1L, array[i]);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorMatchesContents() {
+        IList<Long> list = new LongArrayList();
+        for (long i = 0; i < 10; i++) {
+            list.add(i * i);
+        }
+        Iterator<Long> iter = list.iterator();
+        for (long i = 0; i < 10; i++) {
+            assertTrue(iter.hasNext());
+            assertEquals(i * i, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullElementsThrowException() {
+        IList<Long> longs = new LongArrayList();
+        IList<Double> doubles = new DoubleArrayList();
+        try {
+            longs.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            doubles.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrorsOnEmptyAndOutOfBounds() {
+        LongArrayList list = new LongArrayList();
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.getLong(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new DoubleArrayList(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddManyIsEfficient() {
+        DoubleArrayList list = new DoubleArrayList();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.addDouble(i);
+        }
+        double total = 0.0;
+        for (int i = 0; i < cap; i++) {
+            total += list.getDouble(i);
+        }
+        assertEquals((double) cap * (cap - 1) / 2, total);
+    }
+}
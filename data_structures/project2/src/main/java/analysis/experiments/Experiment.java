@@ -4,6 +4,7 @@ import analysis.utils.AnalysisUtils;
 import analysis.utils.CsvWriter;
 import datastructures.concrete.dictionaries.ArrayDictionary;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.LongLongDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -32,11 +33,16 @@ public class Experiment {
         IList<Long> test2Results = AnalysisUtils.runTrials(
                 dictionarySizes, Experiment::testBuildingChainedHashDictionary, NUM_TRIALS);
 
+        System.out.println("Testing adding many elements to a LongLongDictionary");
+        IList<Long> test3Results = AnalysisUtils.runTrials(
+                dictionarySizes, Experiment::testBuildingLongLongDictionary, NUM_TRIALS);
+
         System.out.println("Saving experiment results to file");
         CsvWriter writer = new CsvWriter();
         writer.addColumn("FinalDictionarySize", dictionarySizes);
         writer.addColumn("ArrayDictionaryPut", test1Results);
         writer.addColumn("ChainedHashDictionaryPut", test2Results);
+        writer.addColumn("LongLongDictionaryPut", test3Results);
         writer.writeToFile("experimentdata/experiment-array-vs-chained-put.csv");
 
         System.out.println("All done!");
@@ -61,4 +67,14 @@ public class Experiment {
         // Returns time elapsed
         return System.currentTimeMillis() - start;
     }
+
+    public static long testBuildingLongLongDictionary(long dictionarySize) {
+        long start = System.currentTimeMillis();
+        LongLongDictionary dictionary = new LongLongDictionary();
+        for (long i = 0L; i < dictionarySize; i++) {
+            dictionary.put(i, 0L);
+        }
+        // Returns time elapsed
+        return System.currentTimeMillis() - start;
+    }
 }
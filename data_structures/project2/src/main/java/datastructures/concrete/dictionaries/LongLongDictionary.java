@@ -0,0 +1,300 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary mapping longs to longs that stores its keys and values directly
+ * inside two flat arrays instead of boxing them.
+ *
+ * Collisions are resolved using open addressing with linear probing, and removals
+ * use backward-shift deletion so the table never fills up with tombstones.
+ *
+ * The boxed methods from IDictionary all work, but callers that care about speed
+ * should use the primitive overloads (get(long), put(long, long)...) instead.
+ *
+ * Note: this dictionary does not support null keys or null values.
+ */
+public class LongLongDictionary implements IDictionary<Long, Long> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // A slot is empty if its key is EMPTY_KEY. Since EMPTY_KEY is also a perfectly
+    // valid key, we store the entry for that key separately.
+    private static final long EMPTY_KEY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int size;     // number of pairs stored in the arrays (excluding the EMPTY_KEY pair)
+    private int mask;     // capacity - 1; capacity is always a power of two
+    private int maxSize;  // resize once size reaches this threshold
+
+    private boolean hasEmptyKey;
+    private long emptyKeyValue;
+
+    public LongLongDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a dictionary that can hold at least 'expectedSize' pairs without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public LongLongDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.allocate(tableSizeFor(expectedSize));
+        this.size = 0;
+        this.hasEmptyKey = false;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public long get(long key) {
+        if (key == EMPTY_KEY) {
+            if (!this.hasEmptyKey) {
+                throw new NoSuchKeyException();
+            }
+            return this.emptyKeyValue;
+        }
+        int index = this.indexOf(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or the default value if the
+     * key is not present.
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == EMPTY_KEY) {
+            return this.hasEmptyKey ? this.emptyKeyValue : defaultValue;
+        }
+        int index = this.indexOf(key);
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary, replacing the old value if the key
+     * already exists.
+     */
+    public void put(long key, long value) {
+        if (key == EMPTY_KEY) {
+            this.hasEmptyKey = true;
+            this.emptyKeyValue = value;
+            return;
+        }
+        int index = mix(key) & this.mask;
+        while (this.keys[index] != EMPTY_KEY) {
+            if (this.keys[index] == key) {
+                this.values[index] = value;
+                return;
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.size++;
+        if (this.size >= this.maxSize) {
+            this.resize(this.keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes the given key and returns the value it used to map to.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public long remove(long key) {
+        if (key == EMPTY_KEY) {
+            if (!this.hasEmptyKey) {
+                throw new NoSuchKeyException();
+            }
+            this.hasEmptyKey = false;
+            return this.emptyKeyValue;
+        }
+        int index = this.indexOf(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        long value = this.values[index];
+        this.shiftBackFrom(index);
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(long key) {
+        if (key == EMPTY_KEY) {
+            return this.hasEmptyKey;
+        }
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Long get(Long key) {
+        return this.get(unbox(key));
+    }
+
+    @Override
+    public Long getOrDefault(Long key, Long defaultValue) {
+        long unboxed = unbox(key);
+        return this.containsKey(unboxed) ? this.get(unboxed) : defaultValue;
+    }
+
+    @Override
+    public void put(Long key, Long value) {
+        if (value == null) {
+            throw new IllegalArgumentException("LongLongDictionary does not support null values");
+        }
+        this.put(unbox(key), value.longValue());
+    }
+
+    @Override
+    public Long remove(Long key) {
+        return this.remove(unbox(key));
+    }
+
+    @Override
+    public boolean containsKey(Long key) {
+        return key != null && this.containsKey(key.longValue());
+    }
+
+    @Override
+    public int size() {
+        return this.hasEmptyKey ? this.size + 1 : this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<Long, Long>> iterator() {
+        return new LongLongIterator(this);
+    }
+
+    private static long unbox(Long key) {
+        if (key == null) {
+            throw new IllegalArgumentException("LongLongDictionary does not support null keys");
+        }
+        return key;
+    }
+
+    /**
+     * Scrambles the bits of the key so that sequential keys don't end up in
+     * long runs of adjacent slots.
+     */
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        // keep the load factor at or below one half
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity / 2 <= expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.mask = capacity - 1;
+        this.maxSize = capacity / 2;
+    }
+
+    // Returns the slot holding the given (non-empty) key, or -1 if it isn't present.
+    private int indexOf(long key) {
+        int index = mix(key) & this.mask;
+        while (this.keys[index] != EMPTY_KEY) {
+            if (this.keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    // Empties the given slot, then moves later entries in the same probe run back
+    // so that every remaining key is still reachable from its home slot.
+    private void shiftBackFrom(int hole) {
+        int index = (hole + 1) & this.mask;
+        while (this.keys[index] != EMPTY_KEY) {
+            int home = mix(this.keys[index]) & this.mask;
+            // move the entry if the hole lies (cyclically) between its home slot and its current slot
+            if (((index - home) & this.mask) >= ((index - hole) & this.mask)) {
+                this.keys[hole] = this.keys[index];
+                this.values[hole] = this.values[index];
+                hole = index;
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.keys[hole] = EMPTY_KEY;
+        this.values[hole] = 0L;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = this.keys;
+        long[] oldValues = this.values;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int index = mix(key) & this.mask;
+                while (this.keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = key;
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static class LongLongIterator implements Iterator<KVPair<Long, Long>> {
+        private LongLongDictionary dict;
+        private int index;
+        private int remainingElements;
+        private boolean emptyKeyPending;
+
+        public LongLongIterator(LongLongDictionary dict) {
+            this.dict = dict;
+            this.index = 0;
+            this.remainingElements = dict.size;
+            this.emptyKeyPending = dict.hasEmptyKey;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.emptyKeyPending || this.remainingElements > 0;
+        }
+
+        @Override
+        public KVPair<Long, Long> next() {
+            if (this.emptyKeyPending) {
+                this.emptyKeyPending = false;
+                return new KVPair<>(EMPTY_KEY, this.dict.emptyKeyValue);
+            }
+            if (this.remainingElements == 0) {
+                throw new NoSuchElementException();
+            }
+            while (this.dict.keys[this.index] == EMPTY_KEY) {
+                this.index++;
+            }
+            this.remainingElements--;
+            int current = this.index;
+            this.index++;
+            return new KVPair<>(this.dict.keys[current], this.dict.values[current]);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary mapping longs to arbitrary values that stores its keys in a flat
+ * long array instead of boxing them.
+ *
+ * This uses the same open addressing scheme as LongLongDictionary: linear probing
+ * with backward-shift deletion. See that class for more details.
+ *
+ * Note: this dictionary does not support null keys, but does support null values.
+ */
+public class LongObjectDictionary<V> implements IDictionary<Long, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long EMPTY_KEY = 0L;
+
+    private long[] keys;
+    private V[] values;
+    private int size;     // number of pairs stored in the arrays (excluding the EMPTY_KEY pair)
+    private int mask;     // capacity - 1; capacity is always a power of two
+    private int maxSize;  // resize once size reaches this threshold
+
+    private boolean hasEmptyKey;
+    private V emptyKeyValue;
+
+    public LongObjectDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a dictionary that can hold at least 'expectedSize' pairs without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public LongObjectDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.allocate(tableSizeFor(expectedSize));
+        this.size = 0;
+        this.hasEmptyKey = false;
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain objects of type V.
+     */
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfV(int arraySize) {
+        return (V[]) new Object[arraySize];
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public V get(long key) {
+        if (key == EMPTY_KEY) {
+            if (!this.hasEmptyKey) {
+                throw new NoSuchKeyException();
+            }
+            return this.emptyKeyValue;
+        }
+        int index = this.indexOf(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return this.values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or the default value if the
+     * key is not present.
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == EMPTY_KEY) {
+            return this.hasEmptyKey ? this.emptyKeyValue : defaultValue;
+        }
+        int index = this.indexOf(key);
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary, replacing the old value if the key
+     * already exists.
+     */
+    public void put(long key, V value) {
+        if (key == EMPTY_KEY) {
+            this.hasEmptyKey = true;
+            this.emptyKeyValue = value;
+            return;
+        }
+        int index = mix(key) & this.mask;
+        while (this.keys[index] != EMPTY_KEY) {
+            if (this.keys[index] == key) {
+                this.values[index] = value;
+                return;
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.size++;
+        if (this.size >= this.maxSize) {
+            this.resize(this.keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes the given key and returns the value it used to map to.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public V remove(long key) {
+        if (key == EMPTY_KEY) {
+            if (!this.hasEmptyKey) {
+                throw new NoSuchKeyException();
+            }
+            V value = this.emptyKeyValue;
+            this.hasEmptyKey = false;
+            this.emptyKeyValue = null;
+            return value;
+        }
+        int index = this.indexOf(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        V value = this.values[index];
+        this.shiftBackFrom(index);
+        this.size--;
+        return value;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(long key) {
+        if (key == EMPTY_KEY) {
+            return this.hasEmptyKey;
+        }
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public V get(Long key) {
+        return this.get(unbox(key));
+    }
+
+    @Override
+    public V getOrDefault(Long key, V defaultValue) {
+        return this.getOrDefault(unbox(key), defaultValue);
+    }
+
+    @Override
+    public void put(Long key, V value) {
+        this.put(unbox(key), value);
+    }
+
+    @Override
+    public V remove(Long key) {
+        return this.remove(unbox(key));
+    }
+
+    @Override
+    public boolean containsKey(Long key) {
+        return key != null && this.containsKey(key.longValue());
+    }
+
+    @Override
+    public int size() {
+        return this.hasEmptyKey ? this.size + 1 : this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<Long, V>> iterator() {
+        return new LongObjectIterator<>(this);
+    }
+
+    private static long unbox(Long key) {
+        if (key == null) {
+            throw new IllegalArgumentException("LongObjectDictionary does not support null keys");
+        }
+        return key;
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        // keep the load factor at or below one half
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity / 2 <= expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = this.makeArrayOfV(capacity);
+        this.mask = capacity - 1;
+        this.maxSize = capacity / 2;
+    }
+
+    // Returns the slot holding the given (non-empty) key, or -1 if it isn't present.
+    private int indexOf(long key) {
+        int index = mix(key) & this.mask;
+        while (this.keys[index] != EMPTY_KEY) {
+            if (this.keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    // See LongLongDictionary.shiftBackFrom
+    private void shiftBackFrom(int hole) {
+        int index = (hole + 1) & this.mask;
+        while (this.keys[index] != EMPTY_KEY) {
+            int home = mix(this.keys[index]) & this.mask;
+            if (((index - home) & this.mask) >= ((index - hole) & this.mask)) {
+                this.keys[hole] = this.keys[index];
+                this.values[hole] = this.values[index];
+                hole = index;
+            }
+            index = (index + 1) & this.mask;
+        }
+        this.keys[hole] = EMPTY_KEY;
+        this.values[hole] = null;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int index = mix(key) & this.mask;
+                while (this.keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = key;
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static class LongObjectIterator<V> implements Iterator<KVPair<Long, V>> {
+        private LongObjectDictionary<V> dict;
+        private int index;
+        private int remainingElements;
+        private boolean emptyKeyPending;
+
+        public LongObjectIterator(LongObjectDictionary<V> dict) {
+            this.dict = dict;
+            this.index = 0;
+            this.remainingElements = dict.size;
+            this.emptyKeyPending = dict.hasEmptyKey;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.emptyKeyPending || this.remainingElements > 0;
+        }
+
+        @Override
+        public KVPair<Long, V> next() {
+            if (this.emptyKeyPending) {
+                this.emptyKeyPending = false;
+                return new KVPair<>(EMPTY_KEY, this.dict.emptyKeyValue);
+            }
+            if (this.remainingElements == 0) {
+                throw new NoSuchElementException();
+            }
+            while (this.dict.keys[this.index] == EMPTY_KEY) {
+                this.index++;
+            }
+            this.remainingElements--;
+            int current = this.index;
+            this.index++;
+            return new KVPair<>(this.dict.keys[current], this.dict.values[current]);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.LongLongDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestLongLongDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutAndGetBasic() {
+        LongLongDictionary dict = new LongLongDictionary();
+        dict.put(1L, 10L);
+        dict.put(-5L, 50L);
+        dict.put(0L, 7L);
+
+        assertEquals(3, dict.size());
+        assertEquals(10L, dict.get(1L));
+        assertEquals(50L, dict.get(-5L));
+        assertEquals(7L, dict.get(0L));
+        assertTrue(dict.containsKey(0L));
+        assertFalse(dict.containsKey(2L));
+    }
+
+    @Test(timeout=SECOND)
+    public void testUpdateExistingKey() {
+        LongLongDictionary dict = new LongLongDictionary();
+        dict.put(3L, 1L);
+        dict.put(3L, 2L);
+
+        assertEquals(1, dict.size());
+        assertEquals(2L, dict.get(3L));
+    }
+
+    @Test(timeout=SECOND)
+    public void testBoxedInterfaceMatchesPrimitive() {
+        IDictionary<Long, Long> dict = new LongLongDictionary();
+        dict.put(42L, 4L);
+
+        assertEquals(Long.valueOf(4L), dict.get(42L));
+        assertEquals(Long.valueOf(-1L), dict.getOrDefault(43L, -1L));
+        assertEquals(Long.valueOf(4L), dict.remove(42L));
+        assertTrue(dict.isEmpty());
+        assertFalse(dict.containsKey(null));
+    }
+
+    @Test(timeout=SECOND)
+    public void testMissingKeyThrowsException() {
+        LongLongDictionary dict = new LongLongDictionary();
+        dict.put(1L, 1L);
+        try {
+            dict.get(2L);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove(0L);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyThrowsException() {
+        IDictionary<Long, Long> dict = new LongLongDictionary();
+        try {
+            dict.put(null, 1L);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorVisitsEveryPair() {
+        LongLongDictionary dict = new LongLongDictionary();
+        long sum = 0;
+        for (long i = 0; i < 500; i++) {
+            dict.put(i, i * 2);
+            sum += i;
+        }
+
+        int count = 0;
+        long keySum = 0;
+        for (KVPair<Long, Long> pair : dict) {
+            assertEquals(pair.getKey() * 2, (long) pair.getValue());
+            keySum += pair.getKey();
+            count++;
+        }
+        assertEquals(500, count);
+        assertEquals(sum, keySum);
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testRemoveKeepsCollidingKeysReachable() {
+        LongLongDictionary dict = new LongLongDictionary(4);
+        int limit = 100000;
+        for (long i = 0; i < limit; i++) {
+            dict.put(i * 1024, i);
+        }
+        for (long i = 0; i < limit; i += 2) {
+            assertEquals(i, dict.remove(i * 1024));
+        }
+
+        assertEquals(limit / 2, dict.size());
+        for (long i = 0; i < limit; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(i * 1024));
+        }
+        for (long i = 1; i < limit; i += 2) {
+            assertEquals(i, dict.get(i * 1024));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.LongObjectDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestLongObjectDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutAndGetBasic() {
+        LongObjectDictionary<String> dict = new LongObjectDictionary<>();
+        dict.put(1L, "a");
+        dict.put(0L, "zero");
+        dict.put(Long.MIN_VALUE, "min");
+
+        assertEquals(3, dict.size());
+        assertEquals("a", dict.get(1L));
+        assertEquals("zero", dict.get(0L));
+        assertEquals("min", dict.get(Long.MIN_VALUE));
+        assertFalse(dict.containsKey(2L));
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullValues() {
+        IDictionary<Long, String> dict = new LongObjectDictionary<>();
+        dict.put(5L, null);
+
+        assertTrue(dict.containsKey(5L));
+        assertNull(dict.get(5L));
+        assertEquals("default", dict.getOrDefault(6L, "default"));
+        assertNull(dict.getOrDefault(5L, "default"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemove() {
+        LongObjectDictionary<String> dict = new LongObjectDictionary<>();
+        dict.put(1L, "a");
+        dict.put(2L, "b");
+
+        assertEquals("a", dict.remove(1L));
+        assertEquals(1, dict.size());
+        assertFalse(dict.containsKey(1L));
+        try {
+            dict.remove(1L);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testManyKeys() {
+        LongObjectDictionary<Long> dict = new LongObjectDictionary<>();
+        int limit = 200000;
+        for (long i = -limit; i < limit; i++) {
+            dict.put(i, Long.valueOf(i));
+        }
+        assertEquals(2 * limit, dict.size());
+
+        for (long i = -limit; i < limit; i += 3) {
+            dict.remove(i);
+        }
+
+        int count = 0;
+        for (KVPair<Long, Long> pair : dict) {
+            assertEquals(pair.getKey(), pair.getValue());
+            assertTrue((pair.getKey() + limit) % 3 != 0);
+            count++;
+        }
+        assertEquals(dict.size(), count);
+    }
+}
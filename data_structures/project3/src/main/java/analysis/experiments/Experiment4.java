@@ -0,0 +1,112 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.PairingHeap;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.IPriorityQueue;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares the 4-ary ArrayHeap against PairingHeap, both on a plain insert/removeMin
+ * workload and on merging many small per-shard heaps into one.
+ */
+public class Experiment4 {
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_HEAP_SIZE = 200000;
+    public static final long STEP = 5000;
+    public static final int NUM_SHARDS = 64;
+
+    public static void main(String[] args) {
+        IList<Long> heapSizes = AnalysisUtils.makeList(STEP, MAX_HEAP_SIZE, STEP);
+
+        System.out.println("Starting test 1");
+        IList<Long> testResults1 = AnalysisUtils.runTrials(heapSizes, Experiment4::test1, NUM_TRIALS);
+        System.out.println("Starting test 2");
+        IList<Long> testResults2 = AnalysisUtils.runTrials(heapSizes, Experiment4::test2, NUM_TRIALS);
+        System.out.println("Starting test 3");
+        IList<Long> testResults3 = AnalysisUtils.runTrials(heapSizes, Experiment4::test3, NUM_TRIALS);
+        System.out.println("Starting test 4");
+        IList<Long> testResults4 = AnalysisUtils.runTrials(heapSizes, Experiment4::test4, NUM_TRIALS);
+
+        System.out.println("Saving experiment results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("HeapSize", heapSizes);
+        writer.addColumn("ArrayHeapInsertRemove", testResults1);
+        writer.addColumn("PairingHeapInsertRemove", testResults2);
+        writer.addColumn("ArrayHeapMergeShards", testResults3);
+        writer.addColumn("PairingHeapMergeShards", testResults4);
+        writer.writeToFile("experimentdata/experiment4.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long heapSize) {
+        return timeInsertRemove(ArrayHeap::new, heapSize);
+    }
+
+    public static long test2(long heapSize) {
+        return timeInsertRemove(PairingHeap::new, heapSize);
+    }
+
+    public static long test3(long heapSize) {
+        IList<ArrayHeap<Long>> shards = makeShards(ArrayHeap::new, heapSize);
+
+        long start = System.currentTimeMillis();
+        ArrayHeap<Long> merged = new ArrayHeap<>();
+        for (ArrayHeap<Long> shard : shards) {
+            while (!shard.isEmpty()) {
+                merged.insert(shard.removeMin());
+            }
+        }
+        merged.removeMin();
+        return System.currentTimeMillis() - start;
+    }
+
+    public static long test4(long heapSize) {
+        IList<PairingHeap<Long>> shards = makeShards(PairingHeap::new, heapSize);
+
+        long start = System.currentTimeMillis();
+        PairingHeap<Long> merged = new PairingHeap<>();
+        for (PairingHeap<Long> shard : shards) {
+            merged.meld(shard);
+        }
+        merged.removeMin();
+        return System.currentTimeMillis() - start;
+    }
+
+    // Splits 'heapSize' random items across NUM_SHARDS heaps made by the given factory.
+    private static <H extends IPriorityQueue<Long>> IList<H> makeShards(Supplier<H> factory, long heapSize) {
+        Random rand = new Random(heapSize);
+        IList<H> shards = new DoubleLinkedList<>();
+        for (int i = 0; i < NUM_SHARDS; i++) {
+            shards.add(factory.get());
+        }
+        int index = 0;
+        for (H shard : shards) {
+            for (long i = index; i < heapSize; i += NUM_SHARDS) {
+                shard.insert(rand.nextLong());
+            }
+            index++;
+        }
+        return shards;
+    }
+
+    private static long timeInsertRemove(Supplier<IPriorityQueue<Long>> factory, long heapSize) {
+        Random rand = new Random(heapSize);
+        IPriorityQueue<Long> heap = factory.get();
+
+        long start = System.currentTimeMillis();
+        for (long i = 0; i < heapSize; i++) {
+            heap.insert(rand.nextLong());
+        }
+        while (!heap.isEmpty()) {
+            heap.removeMin();
+        }
+        return System.currentTimeMillis() - start;
+    }
+}
@@ -24,6 +24,21 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         heap = makeArrayOfT(capacity);
     }
 
+    /**
+     * Constructs a heap containing every item in the given collection. This builds
+     * the heap bottom-up in O(n) time, which is faster than inserting the items one
+     * at a time.
+     *
+     * @throws IllegalArgumentException  if any of the items are null
+     */
+    public ArrayHeap(Iterable<T> items) {
+        this();
+        // Only call private helpers here: a subclass's fields aren't set up until after
+        // this constructor returns, so it isn't safe to call anything it might override.
+        appendAll(items);
+        heapify();
+    }
+
     /**
      * This method will return a new, empty array of the given size
      * that can contain elements of type T.
@@ -80,6 +95,69 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         length++;
         percolateUp(length-1);
     }
+
+    /**
+     * Inserts every item in the given collection into the heap.
+     *
+     * If we're adding more items than the heap already holds, we append them all and
+     * rebuild the heap bottom-up (Floyd's method) in O(n) time. Otherwise, we percolate
+     * each new item up on its own.
+     *
+     * @throws IllegalArgumentException  if any of the items are null (the heap is
+     *                                   left unchanged if this happens)
+     */
+    public void insertAll(Iterable<T> items) {
+        int oldLength = length;
+        appendAll(items);
+        if (length - oldLength > oldLength) {
+            heapify();
+        } else {
+            for (int i = oldLength; i < length; i++) {
+                percolateUp(i);
+            }
+        }
+    }
+
+    /**
+     * Appends every item in the given collection to the end of the heap array, without
+     * restoring the heap property.
+     *
+     * @throws IllegalArgumentException  if any of the items are null (the heap is
+     *                                   left unchanged if this happens)
+     */
+    private void appendAll(Iterable<T> items) {
+        int oldLength = length;
+        for (T item : items) {
+            if (item == null) {
+                // undo everything we've appended so far
+                for (int i = oldLength; i < length; i++) {
+                    heap[i] = null;
+                }
+                length = oldLength;
+                throw new IllegalArgumentException();
+            }
+            if (length == capacity) {
+                capacity *= 2;
+                T[] newHeap = makeArrayOfT(capacity);
+                for (int i = 0; i < length; i++) {
+                    newHeap[i] = heap[i];
+                }
+                heap = newHeap;
+            }
+            heap[length] = item;
+            length++;
+        }
+    }
+
+    /**
+     * Rebuilds the heap property over the whole array bottom-up (Floyd's method) in O(n) time.
+     */
+    private void heapify() {
+        // every node past the last parent is a leaf, so start from there
+        for (int i = (length - 2) / NUM_CHILDREN; i >= 0; i--) {
+            percolateDown(i);
+        }
+    }
     
     private void percolateDown(int index) {
         // idea: start from the top and if this is the largest, it should be at the bottom at the end
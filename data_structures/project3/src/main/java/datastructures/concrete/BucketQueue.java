@@ -0,0 +1,120 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * A priority queue for items whose priorities are small, non-negative integers.
+ *
+ * Items are stored in one bucket per priority, so insert and removeMin run in O(1)
+ * time (plus however many empty buckets removeMin has to skip over) and no item is
+ * ever compared against another. Within a bucket, items come out in the order they
+ * were inserted.
+ *
+ * This works best when priorities are close together and mostly non-decreasing,
+ * as in a breadth-first search: inserting an item below the current minimum is
+ * allowed, but then removeMin has to walk forwards over those buckets again.
+ *
+ * Note: the item's compareTo method is never used; the priority function given to
+ * the constructor must agree with it.
+ */
+public class BucketQueue<T extends Comparable<T>> implements IPriorityQueue<T> {
+    private static final int DEFAULT_BUCKETS = 16;
+
+    private ToIntFunction<T> priority;
+    private DoubleLinkedList<T>[] buckets;
+    private int size;
+
+    // Invariant: every bucket below 'cursor' is empty (or null).
+    private int cursor;
+
+    /**
+     * Constructs a new, empty queue that orders items using the given function.
+     */
+    public BucketQueue(ToIntFunction<T> priority) {
+        this.priority = priority;
+        this.buckets = makeArrayOfBuckets(DEFAULT_BUCKETS);
+        this.size = 0;
+        this.cursor = 0;
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain DoubleLinkedList<T> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> DoubleLinkedList<T>[] makeArrayOfBuckets(int size) {
+        return (DoubleLinkedList<T>[]) new DoubleLinkedList[size];
+    }
+
+    @Override
+    public T removeMin() {
+        T min = this.minBucket().delete(0);
+        this.size--;
+        return min;
+    }
+
+    @Override
+    public T peekMin() {
+        return this.minBucket().get(0);
+    }
+
+    /**
+     * Inserts the given item into the queue.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     * @throws IllegalArgumentException  if the item's priority is negative
+     */
+    @Override
+    public void insert(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        int index = this.priority.applyAsInt(item);
+        if (index < 0) {
+            throw new IllegalArgumentException("Priorities must be non-negative, got " + index);
+        }
+        if (index >= this.buckets.length) {
+            this.growTo(index);
+        }
+        if (this.buckets[index] == null) {
+            this.buckets[index] = new DoubleLinkedList<>();
+        }
+        this.buckets[index].add(item);
+        this.size++;
+        if (index < this.cursor) {
+            this.cursor = index;
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Moves the cursor forward to the first non-empty bucket and returns it.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    private DoubleLinkedList<T> minBucket() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        while (this.buckets[this.cursor] == null || this.buckets[this.cursor].isEmpty()) {
+            this.cursor++;
+        }
+        return this.buckets[this.cursor];
+    }
+
+    private void growTo(int index) {
+        int newLength = Math.max(this.buckets.length * 2, index + 1);
+        DoubleLinkedList<T>[] newBuckets = makeArrayOfBuckets(newLength);
+        for (int i = 0; i < this.buckets.length; i++) {
+            newBuckets[i] = this.buckets[i];
+        }
+        this.buckets = newBuckets;
+    }
+}
@@ -1,29 +1,112 @@
 package datastructures.concrete;
 
 import datastructures.concrete.dictionaries.ChainedHashDictionary;	
-import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.ISet;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * See ISet for more details on what each method is supposed to do.
  */
 public class ChainedHashSet<T> implements ISet<T> {
     // This should be the only field you need
-    private IDictionary<T, Boolean> map;
+    private ChainedHashDictionary<T, Boolean> map;
 
     public ChainedHashSet() {
         // No need to change this method
         this.map = new ChainedHashDictionary<>();
     }
 
+    /**
+     * Constructs a new set that can hold 'expectedSize' items without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public ChainedHashSet(int expectedSize) {
+        this.map = new ChainedHashDictionary<>(expectedSize);
+    }
+
     @Override
     public void add(T item) {
         map.put(item, true);
     }
 
+    @Override
+    public void addAll(ISet<T> other) {
+        this.map.ensureCapacity(this.map.size() + other.size());
+        for (T item : other) {
+            this.map.put(item, true);
+        }
+    }
+
+    @Override
+    public ISet<T> union(ISet<T> other) {
+        ChainedHashSet<T> result = new ChainedHashSet<>(this.size() + other.size());
+        for (T item : this) {
+            result.map.put(item, true);
+        }
+        for (T item : other) {
+            result.map.put(item, true);
+        }
+        return result;
+    }
+
+    @Override
+    public ISet<T> intersection(ISet<T> other) {
+        // every item in the result is in both sets, so we only need to look through
+        // the smaller one
+        ISet<T> smaller = this;
+        ISet<T> larger = other;
+        if (other.size() < this.size()) {
+            smaller = other;
+            larger = this;
+        }
+        ChainedHashSet<T> result = new ChainedHashSet<>(smaller.size());
+        for (T item : smaller) {
+            if (larger.contains(item)) {
+                result.map.put(item, true);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ISet<T> difference(ISet<T> other) {
+        ChainedHashSet<T> result = new ChainedHashSet<>(this.size());
+        for (T item : this) {
+            if (!other.contains(item)) {
+                result.map.put(item, true);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void retainAll(ISet<T> other) {
+        if (other != this) {
+            // rebuilding from the intersection only looks through the smaller set
+            this.map = ((ChainedHashSet<T>) this.intersection(other)).map;
+        }
+    }
+
+    @Override
+    public void removeAll(ISet<T> other) {
+        if (other == this) {
+            this.map = new ChainedHashDictionary<>();
+        } else if (other.size() < this.size()) {
+            for (T item : other) {
+                if (this.map.containsKey(item)) {
+                    this.map.remove(item);
+                }
+            }
+        } else {
+            this.map = ((ChainedHashSet<T>) this.difference(other)).map;
+        }
+    }
+
     @Override
     public void remove(T item) {
         if (!contains(item)) {
@@ -47,6 +130,11 @@ public class ChainedHashSet<T> implements ISet<T> {
         return new SetIterator<>(this.map.iterator());
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SetSpliterator<>(this.map.spliterator());
+    }
+
     private static class SetIterator<T> implements Iterator<T> {
         // This should be the only field you need
         private Iterator<KVPair<T, Boolean>> iter;
@@ -66,4 +154,35 @@ public class ChainedHashSet<T> implements ISet<T> {
             return iter.next().getKey();
         }
     }
+
+
+    private static class SetSpliterator<T> implements Spliterator<T> {
+        private Spliterator<KVPair<T, Boolean>> inner;
+
+        public SetSpliterator(Spliterator<KVPair<T, Boolean>> inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return this.inner.tryAdvance(pair -> action.accept(pair.getKey()));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<KVPair<T, Boolean>> prefix = this.inner.trySplit();
+            return prefix == null ? null : new SetSpliterator<>(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.inner.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            // the pairs are never null, but the keys inside them might be
+            return this.inner.characteristics() & ~Spliterator.NONNULL;
+        }
+    }
 }
@@ -5,6 +5,8 @@ import misc.exceptions.EmptyContainerException;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * Note: For more info on the expected behavior of your methods, see
@@ -228,6 +230,34 @@ public class DoubleLinkedList<T> implements IList<T> {
         return false;
     }
 
+    /**
+     * Moves every element of 'other' onto the end of this list, in order, and leaves
+     * 'other' empty. This relinks the two lists instead of copying, so it runs in
+     * O(1) time no matter how long either list is.
+     *
+     * @throws IllegalArgumentException  if 'other' is this list
+     */
+    public void concat(DoubleLinkedList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot concatenate a list onto itself");
+        }
+        if (other.front == null) {
+            return;
+        }
+        if (back == null) {
+            front = other.front;
+        } else {
+            back.next = other.front;
+            other.front.prev = back;
+        }
+        back = other.back;
+        size += other.size;
+
+        other.front = null;
+        other.back = null;
+        other.size = 0;
+    }
+
     @Override
     public Iterator<T> iterator() {
         // Note: we have provided a part of the implementation of
@@ -237,6 +267,11 @@ public class DoubleLinkedList<T> implements IList<T> {
         return new DoubleLinkedListIterator<>(this.front);
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DoubleLinkedListSpliterator<>(this.front, this.size);
+    }
+
     private static class Node<E> {
         // You may not change the fields in this node or add any new fields.
         public final E data;
@@ -289,4 +324,68 @@ public class DoubleLinkedList<T> implements IList<T> {
             return data;
         }
     }
+
+
+    /**
+     * Splits the list by walking to the middle of whatever range is left, so both
+     * halves always know their exact size.
+     */
+    private static class DoubleLinkedListSpliterator<T> implements Spliterator<T> {
+        // The smallest range we'll bother splitting: walking the nodes costs about
+        // as much as just processing them.
+        private static final int MIN_SPLIT_SIZE = 64;
+
+        private Node<T> current;
+        private int remainingElements;
+
+        public DoubleLinkedListSpliterator(Node<T> current, int remainingElements) {
+            this.current = current;
+            this.remainingElements = remainingElements;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (this.remainingElements == 0) {
+                return false;
+            }
+            T data = this.current.data;
+            this.current = this.current.next;
+            this.remainingElements--;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (this.remainingElements > 0) {
+                action.accept(this.current.data);
+                this.current = this.current.next;
+                this.remainingElements--;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (this.remainingElements < MIN_SPLIT_SIZE) {
+                return null;
+            }
+            int half = this.remainingElements / 2;
+            Spliterator<T> prefix = new DoubleLinkedListSpliterator<>(this.current, half);
+            for (int i = 0; i < half; i++) {
+                this.current = this.current.next;
+            }
+            this.remainingElements -= half;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.remainingElements;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
@@ -0,0 +1,454 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.ISet;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe hash set that uses open addressing with linear probing, where every
+ * slot is updated with compareAndSet instead of under a lock.
+ *
+ * The key operation is tryAdd, which adds an item and reports whether it was new as a
+ * single atomic step: if many threads tryAdd the same item at once, exactly one of
+ * them gets 'true'. This works because each item only ever has one slot in a table:
+ * a slot, once filled, never becomes empty again, and a removed item leaves behind a
+ * tombstone that remembers it, so adding the item again revives that same slot. So
+ * every thread adding the same item walks past the same slots and races to fill the
+ * same one.
+ *
+ * tryAdd, remove and contains never block, even while the table is being resized.
+ * A resize freezes every slot of the old table and copies the live items into a new
+ * one, but it isn't owned by any one thread: every writer that needs to grow the table,
+ * or runs into a frozen slot, helps copy it. Writers first claim chunks of slots that
+ * nobody has started on, then sweep the whole table to finish any slot another thread
+ * froze but hasn't copied yet. Copying a slot is idempotent, so any thread can finish
+ * it, and a thread that stalls partway through a resize never holds up the others.
+ * Whoever sees the copy finish publishes the new table. contains never helps, since a
+ * frozen slot still records what it held. Resizes also clear out tombstones.
+ *
+ * size() and iterator() are weakly consistent: they never fail because of concurrent
+ * changes, but may or may not reflect changes made while they run.
+ */
+public class LockFreeHashSet<T> implements ISet<T> {
+    private static final int MIN_CAPACITY = 16;
+
+    // Once an insert has probed this many slots, we check whether the table is at
+    // least half full, and if so, grow it.
+    private static final int REPROBE_LIMIT = 16;
+
+    // The number of slots a thread claims at a time when helping with a resize.
+    private static final int COPY_CHUNK = 64;
+
+    // Marker values stored in slots. An empty slot is null; removed and frozen items
+    // are wrapped in Removed and Frozen objects.
+    private static final Object NULL_ITEM = new Object();
+    private static final Object FROZEN_EMPTY = new Object();
+
+    private final AtomicReference<Table> table;
+    private final LongAdder size;
+
+    public LockFreeHashSet() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new set that can hold 'expectedSize' items without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public LockFreeHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.table = new AtomicReference<>(new Table(capacityFor(expectedSize)));
+        this.size = new LongAdder();
+    }
+
+    @Override
+    public void add(T item) {
+        this.tryAdd(item);
+    }
+
+    /**
+     * Adds the given item to the set. Returns 'true' if the item was added, and 'false'
+     * if it was already present.
+     */
+    public boolean tryAdd(T item) {
+        Object key = mask(item);
+        int hash = spread(key);
+        while (true) {
+            Table current = this.table.get();
+            AtomicReferenceArray<Object> slots = current.slots;
+            int mask = slots.length() - 1;
+            boolean retry = false;
+
+            for (int probes = 0; probes < slots.length() && !retry; probes++) {
+                if (probes == REPROBE_LIMIT && this.size.sum() * 2 >= slots.length()) {
+                    this.helpResize(current);
+                    retry = true;
+                    break;
+                }
+                int index = (hash + probes) & mask;
+                Object slot = slots.get(index);
+                if (slot == null || isRemoved(slot, key)) {
+                    if (slots.compareAndSet(index, slot, key)) {
+                        this.size.increment();
+                        return true;
+                    }
+                    // someone else changed this slot first; look at what they wrote
+                    slot = slots.get(index);
+                }
+                if (isFrozen(slot)) {
+                    this.helpResize(current);
+                    retry = true;
+                } else if (isRemoved(slot, key)) {
+                    // our item was revived and removed again while we looked; start over
+                    retry = true;
+                } else if (slot.equals(key)) {
+                    return false;
+                }
+            }
+
+            if (!retry) {
+                // every slot is full (of live items or tombstones), so rebuild the table
+                this.helpResize(current);
+            }
+        }
+    }
+
+    @Override
+    public void remove(T item) {
+        Object key = mask(item);
+        int hash = spread(key);
+        while (true) {
+            Table current = this.table.get();
+            int index = current.find(key, hash);
+            if (index == Table.ABSENT) {
+                throw new NoSuchElementException();
+            }
+            if (index == Table.FROZEN) {
+                this.helpResize(current);
+                continue;
+            }
+
+            // A slot that held our item can only have been tombstoned by another remove
+            // (and maybe revived since) or frozen by a resize since we looked.
+            Object slot = current.slots.get(index);
+            if (slot instanceof Removed) {
+                throw new NoSuchElementException();
+            } else if (isFrozen(slot)) {
+                this.helpResize(current);
+            } else if (current.slots.compareAndSet(index, slot, new Removed(slot))) {
+                this.size.decrement();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(T item) {
+        Object key = mask(item);
+        return this.table.get().find(key, spread(key)) != Table.ABSENT;
+    }
+
+    @Override
+    public ISet<T> union(ISet<T> other) {
+        return SetOperations.union(this, other);
+    }
+
+    @Override
+    public ISet<T> intersection(ISet<T> other) {
+        return SetOperations.intersection(this, other);
+    }
+
+    @Override
+    public ISet<T> difference(ISet<T> other) {
+        return SetOperations.difference(this, other);
+    }
+
+    @Override
+    public void retainAll(ISet<T> other) {
+        SetOperations.retainAll(this, other);
+    }
+
+    @Override
+    public void removeAll(ISet<T> other) {
+        SetOperations.removeAll(this, other);
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, this.size.sum());
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new LockFreeIterator<>(this.table.get().slots);
+    }
+
+    /**
+     * Helps replace the given table with a new one holding the same items, starting the
+     * resize if nobody has yet. When this returns, the table has been replaced.
+     */
+    private void helpResize(Table current) {
+        int length = current.slots.length();
+        Table replacement = current.next.get();
+        if (replacement == null) {
+            // Grow unless the table is mostly tombstones, in which case rebuilding it at
+            // the same size is enough. Either way, every live item is sure to fit.
+            int newCapacity = this.size.sum() * 4 < length ? length : length * 2;
+            current.next.compareAndSet(null, new Table(newCapacity));
+            replacement = current.next.get();
+        }
+
+        // Claim chunks of slots that nobody has started on yet...
+        while (current.nextChunk.get() < length) {
+            int start = current.nextChunk.getAndAdd(COPY_CHUNK);
+            for (int i = start; i < Math.min(start + COPY_CHUNK, length); i++) {
+                copySlot(current, replacement, i);
+            }
+        }
+        // ...then finish off any slots that slower threads claimed but haven't copied.
+        for (int i = 0; i < length && current.copied.get() < length; i++) {
+            copySlot(current, replacement, i);
+        }
+        this.table.compareAndSet(current, replacement);
+    }
+
+    /**
+     * Freezes slot 'index' of the given table if it isn't already, and makes sure the
+     * item it held (if it held a live one) has been copied into the replacement table.
+     *
+     * Every slot is counted in current.copied exactly once, by whichever thread
+     * finishes it.
+     */
+    private static void copySlot(Table current, Table replacement, int index) {
+        AtomicReferenceArray<Object> slots = current.slots;
+        while (true) {
+            Object slot = slots.get(index);
+            if (slot == FROZEN_EMPTY) {
+                return;
+            } else if (slot instanceof Frozen) {
+                Frozen frozen = (Frozen) slot;
+                if (frozen.live && !frozen.copied.get()) {
+                    replacement.copyIn(frozen.key);
+                    if (frozen.copied.compareAndSet(false, true)) {
+                        current.copied.incrementAndGet();
+                    }
+                }
+                return;
+            }
+
+            Object target;
+            if (slot == null) {
+                target = FROZEN_EMPTY;
+            } else if (slot instanceof Removed) {
+                target = new Frozen(((Removed) slot).key, false);
+            } else {
+                target = new Frozen(slot, true);
+            }
+            if (slots.compareAndSet(index, slot, target)
+                    && (target == FROZEN_EMPTY || !((Frozen) target).live)) {
+                // there's nothing to copy, so the slot is done as soon as it's frozen
+                current.copied.incrementAndGet();
+                return;
+            }
+            // Otherwise, either we froze a live item (and will copy it next time round),
+            // or someone else changed the slot first.
+        }
+    }
+
+    private static boolean isFrozen(Object slot) {
+        return slot == FROZEN_EMPTY || slot instanceof Frozen;
+    }
+
+    // Returns whether the slot is a tombstone left behind by the given key.
+    private static boolean isRemoved(Object slot, Object key) {
+        return slot instanceof Removed && ((Removed) slot).key.equals(key);
+    }
+
+    // Returns the key a slot holds or remembers, or null if it is (or was) empty.
+    private static Object keyOf(Object slot) {
+        if (slot instanceof Removed) {
+            return ((Removed) slot).key;
+        } else if (slot instanceof Frozen) {
+            return ((Frozen) slot).key;
+        } else if (slot == FROZEN_EMPTY) {
+            return null;
+        }
+        return slot;
+    }
+
+    private static Object mask(Object item) {
+        return item == null ? NULL_ITEM : item;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object key) {
+        return key == NULL_ITEM ? null : (T) key;
+    }
+
+    private static int spread(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // keep the table at most half full
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private static class Table {
+        public static final int ABSENT = -1;
+        public static final int FROZEN = -2;
+
+        private final AtomicReferenceArray<Object> slots;
+
+        // The table being built to replace this one, or null if it isn't being resized.
+        private final AtomicReference<Table> next;
+        // The first slot no thread has claimed to copy yet.
+        private final AtomicInteger nextChunk;
+        // The number of slots that have been frozen and copied into 'next'.
+        private final AtomicInteger copied;
+
+        public Table(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.next = new AtomicReference<>(null);
+            this.nextChunk = new AtomicInteger(0);
+            this.copied = new AtomicInteger(0);
+        }
+
+        /**
+         * Returns the index of the slot holding the given key, ABSENT if the key is not
+         * in the table, or FROZEN if the key's slot has been frozen by a resize (in
+         * which case the key is still present).
+         */
+        public int find(Object key, int hash) {
+            int mask = this.slots.length() - 1;
+            for (int probes = 0; probes < this.slots.length(); probes++) {
+                int index = (hash + probes) & mask;
+                Object slot = this.slots.get(index);
+                if (slot == null || slot == FROZEN_EMPTY) {
+                    return ABSENT;
+                }
+                Object slotKey = keyOf(slot);
+                if (slotKey.equals(key)) {
+                    // this is the only slot the key can be in, so we can stop either way
+                    if (slot instanceof Removed) {
+                        return ABSENT;
+                    } else if (slot instanceof Frozen) {
+                        return ((Frozen) slot).live ? FROZEN : ABSENT;
+                    }
+                    return index;
+                }
+            }
+            return ABSENT;
+        }
+
+        /**
+         * Adds the key to this table unless it already has a slot. Used by resizes to
+         * copy keys into the replacement table.
+         *
+         * A thread may still be copying a key after some other thread copied it and the
+         * table was published. Since the key got a slot before any empty one on its
+         * probe path, we always find that slot (live, removed or frozen) first, and
+         * never write the key a second time.
+         */
+        public void copyIn(Object key) {
+            int mask = this.slots.length() - 1;
+            int index = spread(key) & mask;
+            while (true) {
+                Object slot = this.slots.get(index);
+                if (slot == null) {
+                    if (this.slots.compareAndSet(index, null, key)) {
+                        return;
+                    }
+                    slot = this.slots.get(index);
+                }
+                Object slotKey = keyOf(slot);
+                if (slotKey != null && slotKey.equals(key)) {
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+    }
+
+    // A tombstone: the slot of an item that has been removed.
+    private static class Removed {
+        private final Object key;
+
+        public Removed(Object key) {
+            this.key = key;
+        }
+    }
+
+    // A slot in a table that is being replaced, and the key it held when it was frozen.
+    private static class Frozen {
+        private final Object key;
+        // Whether the key was live, rather than removed, when the slot was frozen.
+        private final boolean live;
+        // Set once a live key is known to be in the replacement table.
+        private final AtomicBoolean copied;
+
+        public Frozen(Object key, boolean live) {
+            this.key = key;
+            this.live = live;
+            this.copied = new AtomicBoolean(false);
+        }
+    }
+
+    private static class LockFreeIterator<T> implements Iterator<T> {
+        private AtomicReferenceArray<Object> slots;
+        private int index;
+        private Object next;
+
+        public LockFreeIterator(AtomicReferenceArray<Object> slots) {
+            this.slots = slots;
+            this.index = 0;
+            this.next = null;
+            this.advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public T next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            Object key = this.next;
+            this.next = null;
+            this.advance();
+            return unmask(key);
+        }
+
+        // Moves 'next' to the next live key, or leaves it null if there are none left.
+        private void advance() {
+            while (this.next == null && this.index < this.slots.length()) {
+                Object slot = this.slots.get(this.index);
+                this.index++;
+                if (slot instanceof Frozen) {
+                    if (((Frozen) slot).live) {
+                        this.next = ((Frozen) slot).key;
+                    }
+                } else if (slot != null && slot != FROZEN_EMPTY && !(slot instanceof Removed)) {
+                    this.next = slot;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IPriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * A pairing heap: a heap-ordered tree where each node keeps a linked list of its
+ * children instead of a fixed number of child slots.
+ *
+ * Compared to ArrayHeap:
+ * - insert and meld are O(1): they just link two trees together.
+ * - decreaseKey is amortized O(1) (or close to it), given the Handle returned by
+ *   insertWithHandle. ArrayHeap has no way to find an item short of a linear scan.
+ * - removeMin is amortized O(log n), but does more pointer-chasing than ArrayHeap,
+ *   so ArrayHeap is usually faster when nothing needs to be melded.
+ *
+ * Note: this heap stores one node object per item.
+ */
+public class PairingHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
+    private Node<T> root;
+    private int size;
+
+    public PairingHeap() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    @Override
+    public T removeMin() {
+        Node<T> min = this.rootNode();
+        this.root = combineSiblings(min.child);
+        this.size--;
+        min.child = null;
+        min.inHeap = false;
+        return min.item;
+    }
+
+    @Override
+    public T peekMin() {
+        return this.rootNode().item;
+    }
+
+    @Override
+    public void insert(T item) {
+        this.insertWithHandle(item);
+    }
+
+    /**
+     * Inserts the given item into the queue, and returns a handle that can later be
+     * passed to decreaseKey.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    public Handle<T> insertWithHandle(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        Node<T> node = new Node<>(item);
+        this.root = link(this.root, node);
+        this.size++;
+        return node;
+    }
+
+    /**
+     * Replaces the item of the given handle with a new item that is no larger than it.
+     *
+     * @throws IllegalArgumentException  if newItem is null or larger than the current item
+     * @throws IllegalArgumentException  if the handle's item has already been removed
+     */
+    public void decreaseKey(Handle<T> handle, T newItem) {
+        Node<T> node = (Node<T>) handle;
+        if (newItem == null || !node.inHeap) {
+            throw new IllegalArgumentException();
+        }
+        if (newItem.compareTo(node.item) > 0) {
+            throw new IllegalArgumentException("decreaseKey cannot make an item larger");
+        }
+        node.item = newItem;
+        if (node.prev == null) {
+            // The node is the root, so it is still the smallest item.
+            return;
+        }
+
+        // Cut the node (and its subtree) out of its parent's list of children...
+        if (node.prev.child == node) {
+            node.prev.child = node.sibling;
+        } else {
+            node.prev.sibling = node.sibling;
+        }
+        if (node.sibling != null) {
+            node.sibling.prev = node.prev;
+        }
+        node.prev = null;
+        node.sibling = null;
+
+        // ...and link it back in at the top.
+        this.root = link(this.root, node);
+    }
+
+    /**
+     * Moves every item in 'other' into this heap in O(1) time. Afterwards, 'other'
+     * is empty, and any handles from it now belong to this heap.
+     *
+     * @throws IllegalArgumentException  if other is this heap
+     */
+    public void meld(PairingHeap<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot meld a heap with itself");
+        }
+        this.root = link(this.root, other.root);
+        this.size += other.size;
+        other.root = null;
+        other.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private Node<T> rootNode() {
+        if (this.root == null) {
+            throw new EmptyContainerException();
+        }
+        return this.root;
+    }
+
+    /**
+     * Links two trees together, making the root with the larger item the leftmost
+     * child of the other, and returns the new root. Both arguments must be roots
+     * (that is, have no siblings).
+     */
+    private static <T extends Comparable<T>> Node<T> link(Node<T> first, Node<T> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        Node<T> parent = first;
+        Node<T> child = second;
+        if (second.item.compareTo(first.item) < 0) {
+            parent = second;
+            child = first;
+        }
+        child.prev = parent;
+        child.sibling = parent.child;
+        if (parent.child != null) {
+            parent.child.prev = child;
+        }
+        parent.child = child;
+        return parent;
+    }
+
+    /**
+     * Combines a list of sibling trees into a single tree using the standard two-pass
+     * method, and returns its root (or null if the list is empty).
+     *
+     * This is done iteratively, since after many inserts the root can have O(n)
+     * children.
+     */
+    private static <T extends Comparable<T>> Node<T> combineSiblings(Node<T> first) {
+        // First pass: link the trees in pairs from left to right. The results are
+        // pushed onto a stack (threaded through the 'sibling' field), so the
+        // rightmost pair ends up on top.
+        Node<T> pairs = null;
+        Node<T> current = first;
+        while (current != null) {
+            Node<T> left = current;
+            Node<T> right = left.sibling;
+            current = right == null ? null : right.sibling;
+            detach(left);
+            detach(right);
+
+            Node<T> linked = link(left, right);
+            linked.sibling = pairs;
+            pairs = linked;
+        }
+
+        // Second pass: link the pairs together from right to left.
+        Node<T> result = null;
+        while (pairs != null) {
+            Node<T> next = pairs.sibling;
+            pairs.sibling = null;
+            result = link(pairs, result);
+            pairs = next;
+        }
+        return result;
+    }
+
+    private static <T> void detach(Node<T> node) {
+        if (node != null) {
+            node.prev = null;
+            node.sibling = null;
+        }
+    }
+
+    /**
+     * Identifies an item in a PairingHeap, so that its priority can be lowered with
+     * decreaseKey.
+     */
+    public abstract static class Handle<T> {
+        // Only Node can extend this class.
+        private Handle() {
+        }
+
+        /**
+         * Returns the item this handle currently refers to.
+         */
+        public abstract T getItem();
+
+        /**
+         * Returns 'true' if the item is still in a heap (that is, it has not been
+         * removed by removeMin).
+         */
+        public abstract boolean isInHeap();
+    }
+
+    private static class Node<T> extends Handle<T> {
+        private T item;
+        private Node<T> child;
+        private Node<T> sibling;
+        // The previous sibling, or the parent if this node is the leftmost child,
+        // or null if this node is a root.
+        private Node<T> prev;
+        private boolean inHeap;
+
+        public Node(T item) {
+            this.item = item;
+            this.child = null;
+            this.sibling = null;
+            this.prev = null;
+            this.inHeap = true;
+        }
+
+        @Override
+        public T getItem() {
+            return this.item;
+        }
+
+        @Override
+        public boolean isInHeap() {
+            return this.inHeap;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+
+/**
+ * Straightforward versions of ISet's set algebra methods that only use add, remove,
+ * contains and iteration, for sets that have no faster way of their own.
+ *
+ * union, intersection and difference always return a new ChainedHashSet.
+ */
+final class SetOperations {
+    private SetOperations() {
+        // only holds static methods
+    }
+
+    public static <T> ISet<T> union(ISet<T> set, ISet<T> other) {
+        ISet<T> result = new ChainedHashSet<>(set.size() + other.size());
+        result.addAll(set);
+        result.addAll(other);
+        return result;
+    }
+
+    public static <T> ISet<T> intersection(ISet<T> set, ISet<T> other) {
+        ISet<T> result = new ChainedHashSet<>(Math.min(set.size(), other.size()));
+        for (T item : set) {
+            if (other.contains(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    public static <T> ISet<T> difference(ISet<T> set, ISet<T> other) {
+        ISet<T> result = new ChainedHashSet<>(set.size());
+        for (T item : set) {
+            if (!other.contains(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    public static <T> void retainAll(ISet<T> set, ISet<T> other) {
+        // find everything to remove first, so we aren't removing while iterating
+        IList<T> toRemove = new DoubleLinkedList<>();
+        for (T item : set) {
+            if (!other.contains(item)) {
+                toRemove.add(item);
+            }
+        }
+        for (T item : toRemove) {
+            set.remove(item);
+        }
+    }
+
+    public static <T> void removeAll(ISet<T> set, ISet<T> other) {
+        // find everything to remove first, in case 'other' is this set
+        IList<T> toRemove = new DoubleLinkedList<>();
+        for (T item : other) {
+            if (set.contains(item)) {
+                toRemove.add(item);
+            }
+        }
+        for (T item : toRemove) {
+            set.remove(item);
+        }
+    }
+}
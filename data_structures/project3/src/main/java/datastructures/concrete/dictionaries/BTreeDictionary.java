@@ -0,0 +1,665 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISortedDictionary;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A sorted dictionary stored as a B+ tree: a balanced tree where every node holds up to
+ * ORDER keys in a sorted array, and all pairs live in the leaves.
+ *
+ * - get, put, remove, floorKey and ceilingKey take O(log n) time, but because each
+ *   node is wide, the tree is only a few levels deep, and most of the work is a
+ *   binary search over one small, contiguous array per level.
+ * - The leaves are linked together in order, so iterating over the whole dictionary,
+ *   or over a range of it, just walks along the leaves.
+ * - fromSorted builds a tree from pairs that are already in order in O(n) time,
+ *   without any searching or splitting.
+ */
+public class BTreeDictionary<K extends Comparable<K>, V> implements SortedRangeView.Backing<K, V> {
+    // The most keys a leaf (or children an inner node) may have. Every node except the
+    // root has at least ORDER / 2.
+    private static final int ORDER = 64;
+    private static final int MIN_SIZE = ORDER / 2;
+
+    // How full fromSorted makes each node, leaving room for later inserts.
+    private static final int BULK_FILL = ORDER * 3 / 4;
+
+    private Node<K, V> root;
+    private int size;
+
+    public BTreeDictionary() {
+        this.root = new Leaf<>();
+        this.size = 0;
+    }
+
+    /**
+     * Returns a new dictionary containing the given pairs, which must be sorted in
+     * strictly increasing order of key.
+     *
+     * @throws IllegalArgumentException  if the keys are not strictly increasing, or any key is null
+     */
+    public static <K extends Comparable<K>, V> BTreeDictionary<K, V> fromSorted(IList<KVPair<K, V>> pairs) {
+        BTreeDictionary<K, V> dict = new BTreeDictionary<>();
+        int count = pairs.size();
+        if (count == 0) {
+            return dict;
+        }
+
+        // Build the leaves, spreading the pairs evenly between them.
+        int numNodes = nodesFor(count);
+        Node<K, V>[] level = makeArrayOfNodes(numNodes);
+        K[] minKeys = makeArrayOfKeys(numNodes);
+        Iterator<KVPair<K, V>> iter = pairs.iterator();
+        K previous = null;
+        Leaf<K, V> previousLeaf = null;
+        for (int i = 0; i < numNodes; i++) {
+            Leaf<K, V> leaf = new Leaf<>();
+            int leafSize = count / numNodes + (i < count % numNodes ? 1 : 0);
+            for (int j = 0; j < leafSize; j++) {
+                KVPair<K, V> pair = iter.next();
+                K key = checkKey(pair.getKey());
+                if (previous != null && previous.compareTo(key) >= 0) {
+                    throw new IllegalArgumentException("Keys must be strictly increasing");
+                }
+                leaf.keys[j] = key;
+                leaf.values[j] = pair.getValue();
+                previous = key;
+            }
+            leaf.size = leafSize;
+            if (previousLeaf != null) {
+                previousLeaf.next = leaf;
+            }
+            previousLeaf = leaf;
+            level[i] = leaf;
+            minKeys[i] = leaf.keys[0];
+        }
+
+        // Then build each level of inner nodes on top of the one below.
+        while (numNodes > 1) {
+            int numParents = nodesFor(numNodes);
+            Node<K, V>[] parents = makeArrayOfNodes(numParents);
+            K[] parentMinKeys = makeArrayOfKeys(numParents);
+            int child = 0;
+            for (int i = 0; i < numParents; i++) {
+                Inner<K, V> parent = new Inner<>();
+                int numChildren = numNodes / numParents + (i < numNodes % numParents ? 1 : 0);
+                parentMinKeys[i] = minKeys[child];
+                for (int j = 0; j < numChildren; j++) {
+                    if (j > 0) {
+                        parent.keys[j - 1] = minKeys[child];
+                    }
+                    parent.children[j] = level[child];
+                    child++;
+                }
+                parent.size = numChildren;
+                parents[i] = parent;
+            }
+            level = parents;
+            minKeys = parentMinKeys;
+            numNodes = numParents;
+        }
+
+        dict.root = level[0];
+        dict.size = count;
+        return dict;
+    }
+
+    /**
+     * Returns how many nodes fromSorted should spread 'count' entries (pairs, or children)
+     * over: as close to BULK_FILL entries per node as we can get, while keeping every
+     * node between MIN_SIZE and ORDER entries. A single node may have fewer, since it
+     * will be the root.
+     */
+    private static int nodesFor(int count) {
+        int fewest = (count + ORDER - 1) / ORDER;
+        int most = count / MIN_SIZE;
+        int ideal = (count + BULK_FILL - 1) / BULK_FILL;
+        return Math.max(1, Math.max(fewest, Math.min(ideal, most)));
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain objects of type T.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] makeArrayOf(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain keys of type K.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K extends Comparable<K>> K[] makeArrayOfKeys(int arraySize) {
+        return (K[]) new Comparable[arraySize];
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain Node<K, V> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K extends Comparable<K>, V> Node<K, V>[] makeArrayOfNodes(int arraySize) {
+        return (Node<K, V>[]) new Node[arraySize];
+    }
+
+    private static <K> K checkKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Sorted dictionaries do not support null keys");
+        }
+        return key;
+    }
+
+    @Override
+    public V get(K key) {
+        Leaf<K, V> leaf = this.findLeaf(checkKey(key));
+        int index = leaf.search(key);
+        if (index < 0) {
+            throw new NoSuchKeyException();
+        }
+        return leaf.values[index];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Leaf<K, V> leaf = this.findLeaf(checkKey(key));
+        int index = leaf.search(key);
+        return index < 0 ? defaultValue : leaf.values[index];
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        Leaf<K, V> leaf = this.findLeaf(checkKey(key));
+        return leaf.search(key) >= 0;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Leaf<K, V> leaf = this.findLeaf(checkKey(key));
+        int index = leaf.search(key);
+        if (index >= 0) {
+            leaf.values[index] = value;
+            return;
+        }
+
+        Node<K, V> sibling = this.root.insert(key, value);
+        if (sibling != null) {
+            // the root split, so the tree grows a level
+            Inner<K, V> newRoot = new Inner<>();
+            newRoot.keys[0] = sibling.minKey();
+            newRoot.children[0] = this.root;
+            newRoot.children[1] = sibling;
+            newRoot.size = 2;
+            this.root = newRoot;
+        }
+        this.size++;
+    }
+
+    @Override
+    public V remove(K key) {
+        V value = this.get(key);
+        this.root.delete(key);
+        if (this.root instanceof Inner && this.root.size == 1) {
+            // the root is down to one child, so the tree shrinks a level
+            this.root = ((Inner<K, V>) this.root).children[0];
+        }
+        this.size--;
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public K firstKey() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.firstLeaf().keys[0];
+    }
+
+    @Override
+    public K lastKey() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.root.maxKey();
+    }
+
+    @Override
+    public K floorKey(K key) {
+        return this.root.floor(checkKey(key), true);
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        return this.ceiling(checkKey(key), true);
+    }
+
+    @Override
+    public K lowerKey(K key) {
+        return this.root.floor(checkKey(key), false);
+    }
+
+    @Override
+    public ISortedDictionary<K, V> range(K low, K high) {
+        return new SortedRangeView<>(this, low, high);
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new BTreeIterator<>(this.firstLeaf(), 0, null);
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator(K low, K high) {
+        Leaf<K, V> leaf = this.findLeaf(checkKey(low));
+        return new BTreeIterator<>(leaf, leaf.lowerBound(low, true), checkKey(high));
+    }
+
+    private Leaf<K, V> findLeaf(K key) {
+        Node<K, V> node = this.root;
+        while (node instanceof Inner) {
+            Inner<K, V> inner = (Inner<K, V>) node;
+            node = inner.children[inner.childIndex(key)];
+        }
+        return (Leaf<K, V>) node;
+    }
+
+    private Leaf<K, V> firstLeaf() {
+        Node<K, V> node = this.root;
+        while (node instanceof Inner) {
+            node = ((Inner<K, V>) node).children[0];
+        }
+        return (Leaf<K, V>) node;
+    }
+
+    /**
+     * Returns the smallest key greater than (or, if 'inclusive', equal to) the given
+     * key, or null if there is none.
+     */
+    private K ceiling(K key, boolean inclusive) {
+        Leaf<K, V> leaf = this.findLeaf(key);
+        int index = leaf.lowerBound(key, inclusive);
+        if (index < leaf.size) {
+            return leaf.keys[index];
+        }
+        // every key in this leaf is too small, so the answer (if any) starts the next one
+        return leaf.next == null ? null : leaf.next.keys[0];
+    }
+
+    private abstract static class Node<K extends Comparable<K>, V> {
+        // The number of pairs in a leaf, or the number of children of an inner node.
+        protected int size;
+
+        public abstract K minKey();
+
+        public abstract K maxKey();
+
+        /**
+         * Returns the largest key less than (or, if 'inclusive', equal to) the given key
+         * in this subtree, or null if there is none.
+         */
+        public abstract K floor(K key, boolean inclusive);
+
+        /**
+         * Inserts a pair whose key is not already in the tree. If this node had to
+         * split, returns the new node holding its upper half; otherwise returns null.
+         */
+        public abstract Node<K, V> insert(K key, V value);
+
+        /**
+         * Deletes a key that is known to be in this subtree. Afterwards this node may be
+         * underfull; its parent is responsible for fixing that.
+         */
+        public abstract void delete(K key);
+    }
+
+    private static class Leaf<K extends Comparable<K>, V> extends Node<K, V> {
+        // one extra slot, so a full leaf can hold a new pair just before it splits
+        private K[] keys;
+        private V[] values;
+        private Leaf<K, V> next;
+
+        public Leaf() {
+            this.keys = makeArrayOfKeys(ORDER + 1);
+            this.values = makeArrayOf(ORDER + 1);
+            this.size = 0;
+            this.next = null;
+        }
+
+        /**
+         * Returns the index of the given key, or (-(insertion point) - 1) if it is not in
+         * this leaf, like Arrays.binarySearch.
+         */
+        public int search(K key) {
+            int low = 0;
+            int high = this.size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = this.keys[mid].compareTo(key);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        // Returns the index of the first key >= (or, if not 'inclusive', >) the given key.
+        public int lowerBound(K key, boolean inclusive) {
+            int index = this.search(key);
+            if (index < 0) {
+                return -index - 1;
+            }
+            return inclusive ? index : index + 1;
+        }
+
+        @Override
+        public K minKey() {
+            return this.keys[0];
+        }
+
+        @Override
+        public K maxKey() {
+            return this.keys[this.size - 1];
+        }
+
+        @Override
+        public K floor(K key, boolean inclusive) {
+            int index = this.lowerBound(key, !inclusive) - 1;
+            return index >= 0 ? this.keys[index] : null;
+        }
+
+        @Override
+        public Node<K, V> insert(K key, V value) {
+            int index = -this.search(key) - 1;
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+            System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+            this.keys[index] = key;
+            this.values[index] = value;
+            this.size++;
+            if (this.size <= ORDER) {
+                return null;
+            }
+
+            Leaf<K, V> sibling = new Leaf<>();
+            int half = this.size / 2;
+            sibling.size = this.size - half;
+            System.arraycopy(this.keys, half, sibling.keys, 0, sibling.size);
+            System.arraycopy(this.values, half, sibling.values, 0, sibling.size);
+            this.clear(half, this.size);
+            this.size = half;
+            sibling.next = this.next;
+            this.next = sibling;
+            return sibling;
+        }
+
+        @Override
+        public void delete(K key) {
+            int index = this.search(key);
+            System.arraycopy(this.keys, index + 1, this.keys, index, this.size - index - 1);
+            System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+            this.size--;
+            this.clear(this.size, this.size + 1);
+        }
+
+        // Clears the slots in [from, to) so the old pairs can be garbage collected.
+        private void clear(int from, int to) {
+            for (int i = from; i < to; i++) {
+                this.keys[i] = null;
+                this.values[i] = null;
+            }
+        }
+    }
+
+    /**
+     * An inner node with 'size' children. keys[i] separates children[i] from
+     * children[i + 1]: every key in children[i + 1] and beyond is at least keys[i], and
+     * every key before it is smaller.
+     */
+    private static class Inner<K extends Comparable<K>, V> extends Node<K, V> {
+        // one extra slot each, so a full node can hold a new child just before it splits
+        private K[] keys;
+        private Node<K, V>[] children;
+
+        public Inner() {
+            this.keys = makeArrayOfKeys(ORDER);
+            this.children = makeArrayOfNodes(ORDER + 1);
+            this.size = 0;
+        }
+
+        // Returns the index of the child whose subtree the given key belongs in.
+        public int childIndex(K key) {
+            int low = 0;
+            int high = this.size - 2;
+            // find the first separator greater than the key
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (this.keys[mid].compareTo(key) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        public K minKey() {
+            return this.children[0].minKey();
+        }
+
+        @Override
+        public K maxKey() {
+            return this.children[this.size - 1].maxKey();
+        }
+
+        @Override
+        public K floor(K key, boolean inclusive) {
+            int index = this.childIndex(key);
+            K result = this.children[index].floor(key, inclusive);
+            if (result == null && index > 0) {
+                // everything in the previous subtree is smaller than our key
+                result = this.children[index - 1].maxKey();
+            }
+            return result;
+        }
+
+        @Override
+        public Node<K, V> insert(K key, V value) {
+            int index = this.childIndex(key);
+            Node<K, V> newChild = this.children[index].insert(key, value);
+            if (newChild == null) {
+                return null;
+            }
+
+            System.arraycopy(this.keys, index, this.keys, index + 1, this.size - 1 - index);
+            System.arraycopy(this.children, index + 1, this.children, index + 2, this.size - 1 - index);
+            this.keys[index] = newChild.minKey();
+            this.children[index + 1] = newChild;
+            this.size++;
+            if (this.size <= ORDER) {
+                return null;
+            }
+
+            // keys[half - 1] separated the two halves, so neither half keeps it; our
+            // parent uses the sibling's smallest key instead
+            Inner<K, V> sibling = new Inner<>();
+            int half = this.size / 2;
+            sibling.size = this.size - half;
+            System.arraycopy(this.keys, half, sibling.keys, 0, sibling.size - 1);
+            System.arraycopy(this.children, half, sibling.children, 0, sibling.size);
+            for (int i = half - 1; i < this.size - 1; i++) {
+                this.keys[i] = null;
+            }
+            for (int i = half; i < this.size; i++) {
+                this.children[i] = null;
+            }
+            this.size = half;
+            return sibling;
+        }
+
+        @Override
+        public void delete(K key) {
+            int index = this.childIndex(key);
+            Node<K, V> child = this.children[index];
+            child.delete(key);
+            if (child.size >= MIN_SIZE) {
+                return;
+            }
+
+            // The child is underfull: borrow from a sibling that can spare one, or else
+            // merge with a sibling.
+            if (index > 0 && this.children[index - 1].size > MIN_SIZE) {
+                this.borrowFromLeft(index);
+            } else if (index < this.size - 1 && this.children[index + 1].size > MIN_SIZE) {
+                this.borrowFromRight(index);
+            } else if (index > 0) {
+                this.merge(index - 1);
+            } else if (index < this.size - 1) {
+                this.merge(index);
+            }
+        }
+
+        // Moves the last entry of children[index - 1] to the front of children[index].
+        private void borrowFromLeft(int index) {
+            Node<K, V> left = this.children[index - 1];
+            Node<K, V> child = this.children[index];
+            if (child instanceof Leaf) {
+                Leaf<K, V> leftLeaf = (Leaf<K, V>) left;
+                Leaf<K, V> leaf = (Leaf<K, V>) child;
+                System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.size);
+                System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.size);
+                leaf.keys[0] = leftLeaf.keys[leftLeaf.size - 1];
+                leaf.values[0] = leftLeaf.values[leftLeaf.size - 1];
+                leaf.size++;
+                leftLeaf.size--;
+                leftLeaf.clear(leftLeaf.size, leftLeaf.size + 1);
+                this.keys[index - 1] = leaf.keys[0];
+            } else {
+                Inner<K, V> leftInner = (Inner<K, V>) left;
+                Inner<K, V> inner = (Inner<K, V>) child;
+                System.arraycopy(inner.keys, 0, inner.keys, 1, inner.size - 1);
+                System.arraycopy(inner.children, 0, inner.children, 1, inner.size);
+                inner.keys[0] = this.keys[index - 1];
+                inner.children[0] = leftInner.children[leftInner.size - 1];
+                inner.size++;
+                this.keys[index - 1] = leftInner.keys[leftInner.size - 2];
+                leftInner.keys[leftInner.size - 2] = null;
+                leftInner.children[leftInner.size - 1] = null;
+                leftInner.size--;
+            }
+        }
+
+        // Moves the first entry of children[index + 1] to the end of children[index].
+        private void borrowFromRight(int index) {
+            Node<K, V> right = this.children[index + 1];
+            Node<K, V> child = this.children[index];
+            if (child instanceof Leaf) {
+                Leaf<K, V> rightLeaf = (Leaf<K, V>) right;
+                Leaf<K, V> leaf = (Leaf<K, V>) child;
+                leaf.keys[leaf.size] = rightLeaf.keys[0];
+                leaf.values[leaf.size] = rightLeaf.values[0];
+                leaf.size++;
+                System.arraycopy(rightLeaf.keys, 1, rightLeaf.keys, 0, rightLeaf.size - 1);
+                System.arraycopy(rightLeaf.values, 1, rightLeaf.values, 0, rightLeaf.size - 1);
+                rightLeaf.size--;
+                rightLeaf.clear(rightLeaf.size, rightLeaf.size + 1);
+                this.keys[index] = rightLeaf.keys[0];
+            } else {
+                Inner<K, V> rightInner = (Inner<K, V>) right;
+                Inner<K, V> inner = (Inner<K, V>) child;
+                inner.keys[inner.size - 1] = this.keys[index];
+                inner.children[inner.size] = rightInner.children[0];
+                inner.size++;
+                this.keys[index] = rightInner.keys[0];
+                System.arraycopy(rightInner.keys, 1, rightInner.keys, 0, rightInner.size - 2);
+                System.arraycopy(rightInner.children, 1, rightInner.children, 0, rightInner.size - 1);
+                rightInner.keys[rightInner.size - 2] = null;
+                rightInner.children[rightInner.size - 1] = null;
+                rightInner.size--;
+            }
+        }
+
+        // Merges children[index + 1] into children[index], and removes it.
+        private void merge(int index) {
+            Node<K, V> left = this.children[index];
+            Node<K, V> right = this.children[index + 1];
+            if (left instanceof Leaf) {
+                Leaf<K, V> leftLeaf = (Leaf<K, V>) left;
+                Leaf<K, V> rightLeaf = (Leaf<K, V>) right;
+                System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.size, rightLeaf.size);
+                System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.size, rightLeaf.size);
+                leftLeaf.size += rightLeaf.size;
+                leftLeaf.next = rightLeaf.next;
+            } else {
+                Inner<K, V> leftInner = (Inner<K, V>) left;
+                Inner<K, V> rightInner = (Inner<K, V>) right;
+                leftInner.keys[leftInner.size - 1] = this.keys[index];
+                System.arraycopy(rightInner.keys, 0, leftInner.keys, leftInner.size, rightInner.size - 1);
+                System.arraycopy(rightInner.children, 0, leftInner.children, leftInner.size, rightInner.size);
+                leftInner.size += rightInner.size;
+            }
+
+            System.arraycopy(this.keys, index + 1, this.keys, index, this.size - 2 - index);
+            System.arraycopy(this.children, index + 2, this.children, index + 1, this.size - 2 - index);
+            this.keys[this.size - 2] = null;
+            this.children[this.size - 1] = null;
+            this.size--;
+        }
+    }
+
+    /**
+     * Walks along the leaves, starting from the given position, until it reaches a key
+     * that is not less than 'high' (or, if 'high' is null, the end of the tree).
+     */
+    private static class BTreeIterator<K extends Comparable<K>, V> implements Iterator<KVPair<K, V>> {
+        private Leaf<K, V> leaf;
+        private int index;
+        private K high;
+
+        public BTreeIterator(Leaf<K, V> leaf, int index, K high) {
+            this.leaf = leaf;
+            this.index = index;
+            this.high = high;
+            this.skipFinishedLeaves();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.leaf != null
+                    && (this.high == null || this.leaf.keys[this.index].compareTo(this.high) < 0);
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(this.leaf.keys[this.index], this.leaf.values[this.index]);
+            this.index++;
+            this.skipFinishedLeaves();
+            return pair;
+        }
+
+        private void skipFinishedLeaves() {
+            while (this.leaf != null && this.index >= this.leaf.size) {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A thread-safe hash dictionary that any number of threads may read and modify at once.
+ *
+ * The table is split into a fixed number of stripes, each one a small chained hash
+ * table with its own lock:
+ * - put, remove, putIfAbsent and computeIfAbsent lock only the stripe the key hashes
+ *   to, so writers to different stripes never wait on each other.
+ * - get, getOrDefault and containsKey never lock. Chains are built from nodes whose
+ *   'next' pointers never change once published (removing a node copies the nodes in
+ *   front of it instead), so a reader always sees a consistent chain, and values are
+ *   volatile so an updated value is visible as soon as put returns.
+ * - Each stripe resizes on its own, under its lock.
+ *
+ * size() and iterator() are weakly consistent: while other threads are writing, size()
+ * may miss changes that are still in progress, and the iterator may or may not see
+ * pairs added or removed after it was created. Neither one ever throws because of a
+ * concurrent change.
+ */
+public class ConcurrentChainedHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int DEFAULT_STRIPES = 16;
+    private static final int MIN_STRIPE_CAPACITY = 4;
+
+    private final Stripe<K, V>[] stripes;
+    // How far to shift a spread hash code right to get its stripe index.
+    private final int stripeShift;
+
+    public ConcurrentChainedHashDictionary() {
+        this(0, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs a new dictionary that can hold 'expectedSize' pairs without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public ConcurrentChainedHashDictionary(int expectedSize) {
+        this(expectedSize, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs a new dictionary that can hold 'expectedSize' pairs without resizing,
+     * split into at least 'numStripes' independently locked stripes. More stripes let
+     * more writers proceed at once, at the cost of a little memory.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative or numStripes is not positive
+     */
+    public ConcurrentChainedHashDictionary(int expectedSize, int numStripes) {
+        if (expectedSize < 0 || numStripes <= 0 || numStripes > (1 << 16)) {
+            throw new IllegalArgumentException();
+        }
+        int stripeBits = 32 - Integer.numberOfLeadingZeros(numStripes - 1);
+        int stripeCount = 1 << stripeBits;
+        // 32 - 0 would be a shift by 32, which Java treats as a shift by 0
+        this.stripeShift = stripeBits == 0 ? 0 : 32 - stripeBits;
+        this.stripes = makeArrayOfStripes(stripeCount);
+
+        int stripeCapacity = powerOfTwoAtLeast(Math.max(MIN_STRIPE_CAPACITY, expectedSize / stripeCount + 1));
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe<>(stripeCapacity);
+        }
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain Stripe<K, V> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Stripe<K, V>[] makeArrayOfStripes(int size) {
+        return (Stripe<K, V>[]) new Stripe[size];
+    }
+
+    @Override
+    public V get(K key) {
+        int hash = spread(key);
+        Node<K, V> node = this.stripeFor(hash).find(key, hash);
+        if (node == null) {
+            throw new NoSuchKeyException();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int hash = spread(key);
+        Node<K, V> node = this.stripeFor(hash).find(key, hash);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        int hash = spread(key);
+        return this.stripeFor(hash).find(key, hash) != null;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = spread(key);
+        this.stripeFor(hash).put(key, hash, value, true);
+    }
+
+    /**
+     * Adds the key-value pair only if the key is not already in the dictionary, as a
+     * single atomic step. Returns 'true' if the pair was added and 'false' if the key
+     * was already present (in which case its value is left alone).
+     */
+    public boolean putIfAbsent(K key, V value) {
+        int hash = spread(key);
+        return this.stripeFor(hash).put(key, hash, value, false);
+    }
+
+    /**
+     * Returns the value corresponding to the given key. If the key is not in the
+     * dictionary, first computes its value using 'mapping' and adds it.
+     *
+     * The check and the insert happen atomically, so 'mapping' runs at most once per
+     * key even if many threads ask for the same missing key at once. While 'mapping'
+     * runs, other writers to the same stripe have to wait, so it should be quick and
+     * must not modify this dictionary.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mapping) {
+        int hash = spread(key);
+        Stripe<K, V> stripe = this.stripeFor(hash);
+        Node<K, V> node = stripe.find(key, hash);
+        if (node != null) {
+            return node.value;
+        }
+        return stripe.computeIfAbsent(key, hash, mapping);
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = spread(key);
+        return this.stripeFor(hash).remove(key, hash);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : this.stripes) {
+            size += stripe.count;
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ConcurrentIterator<>(this.stripes);
+    }
+
+    private Stripe<K, V> stripeFor(int hash) {
+        return this.stripes[this.stripeShift == 0 ? 0 : hash >>> this.stripeShift];
+    }
+
+    /**
+     * Mixes the bits of the key's hash code, so that both the high bits (which pick
+     * the stripe) and the low bits (which pick the bucket within it) depend on the
+     * whole hash code.
+     */
+    private static int spread(Object key) {
+        // Hashes to 0 if the key is null
+        if (key == null) {
+            return 0;
+        }
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int powerOfTwoAtLeast(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static boolean keysEqual(Object key, Object other) {
+        return key == other || (key != null && key.equals(other));
+    }
+
+    /**
+     * A chain node. Only 'value' may change once a node has been published; 'next' is
+     * final so that readers never see a half-modified chain.
+     */
+    private static class Node<K, V> {
+        private final K key;
+        private final int hash;
+        private volatile V value;
+        private final Node<K, V> next;
+
+        public Node(K key, int hash, V value, Node<K, V> next) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * One independently locked piece of the table.
+     *
+     * Invariant: 'table' and 'count' are only written while holding 'lock', and 'table'
+     * is always replaced by a fully built table, never modified in place except by
+     * setting a bucket to a fully built chain.
+     */
+    private static class Stripe<K, V> {
+        private final ReentrantLock lock;
+        private volatile AtomicReferenceArray<Node<K, V>> table;
+        private volatile int count;
+
+        public Stripe(int capacity) {
+            this.lock = new ReentrantLock();
+            this.table = new AtomicReferenceArray<>(capacity);
+            this.count = 0;
+        }
+
+        public Node<K, V> find(K key, int hash) {
+            AtomicReferenceArray<Node<K, V>> current = this.table;
+            Node<K, V> node = current.get(hash & (current.length() - 1));
+            while (node != null) {
+                if (node.hash == hash && keysEqual(node.key, key)) {
+                    return node;
+                }
+                node = node.next;
+            }
+            return null;
+        }
+
+        /**
+         * Adds the pair, or (if 'replace' is true) updates the value of an existing key.
+         * Returns 'true' if a new pair was added.
+         */
+        public boolean put(K key, int hash, V value, boolean replace) {
+            this.lock.lock();
+            try {
+                Node<K, V> existing = this.find(key, hash);
+                if (existing != null) {
+                    if (replace) {
+                        existing.value = value;
+                    }
+                    return false;
+                }
+                this.insert(key, hash, value);
+                return true;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        public V computeIfAbsent(K key, int hash, Function<? super K, ? extends V> mapping) {
+            this.lock.lock();
+            try {
+                // someone may have added the key since we last looked
+                Node<K, V> existing = this.find(key, hash);
+                if (existing != null) {
+                    return existing.value;
+                }
+                V value = mapping.apply(key);
+                this.insert(key, hash, value);
+                return value;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        public V remove(K key, int hash) {
+            this.lock.lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> current = this.table;
+                int index = hash & (current.length() - 1);
+                Node<K, V> first = current.get(index);
+                Node<K, V> target = first;
+                while (target != null && !(target.hash == hash && keysEqual(target.key, key))) {
+                    target = target.next;
+                }
+                if (target == null) {
+                    throw new NoSuchKeyException();
+                }
+
+                // Copy the nodes in front of the target onto the rest of the chain, so
+                // that readers walking the old chain are unaffected.
+                Node<K, V> chain = target.next;
+                for (Node<K, V> node = first; node != target; node = node.next) {
+                    chain = new Node<>(node.key, node.hash, node.value, chain);
+                }
+                current.set(index, chain);
+                this.count--;
+                return target.value;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        // Must be called while holding the lock, after checking the key is absent.
+        private void insert(K key, int hash, V value) {
+            AtomicReferenceArray<Node<K, V>> current = this.table;
+            if (this.count >= current.length()) {
+                current = this.resize(current);
+            }
+            int index = hash & (current.length() - 1);
+            current.set(index, new Node<>(key, hash, value, current.get(index)));
+            this.count++;
+        }
+
+        // Must be called while holding the lock. Builds a table twice the size and only
+        // then publishes it, so readers see either the old table or the new one.
+        private AtomicReferenceArray<Node<K, V>> resize(AtomicReferenceArray<Node<K, V>> current) {
+            int newCapacity = current.length() * 2;
+            AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(newCapacity);
+            for (int i = 0; i < current.length(); i++) {
+                for (Node<K, V> node = current.get(i); node != null; node = node.next) {
+                    int index = node.hash & (newCapacity - 1);
+                    newTable.set(index, new Node<>(node.key, node.hash, node.value, newTable.get(index)));
+                }
+            }
+            this.table = newTable;
+            return newTable;
+        }
+    }
+
+    /**
+     * Walks each stripe's table in turn, reading the table and each bucket only when
+     * it gets there.
+     */
+    private static class ConcurrentIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private Stripe<K, V>[] stripes;
+        private int stripeIndex;
+        private AtomicReferenceArray<Node<K, V>> table;
+        private int bucketIndex;
+        private Node<K, V> next;
+
+        public ConcurrentIterator(Stripe<K, V>[] stripes) {
+            this.stripes = stripes;
+            this.stripeIndex = 0;
+            this.table = stripes[0].table;
+            this.bucketIndex = 0;
+            this.next = null;
+            this.advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = this.next;
+            this.next = node.next;
+            if (this.next == null) {
+                this.advance();
+            }
+            return new KVPair<>(node.key, node.value);
+        }
+
+        // Moves 'next' to the first node of the next non-empty bucket, or null if
+        // there are none left.
+        private void advance() {
+            while (this.next == null) {
+                if (this.bucketIndex == this.table.length()) {
+                    this.stripeIndex++;
+                    if (this.stripeIndex == this.stripes.length) {
+                        return;
+                    }
+                    this.table = this.stripes[this.stripeIndex].table;
+                    this.bucketIndex = 0;
+                }
+                this.next = this.table.get(this.bucketIndex);
+                this.bucketIndex++;
+            }
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.ISortedDictionary;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe sorted dictionary stored as a skip list, where every link is updated
+ * with compareAndSet instead of under a lock.
+ *
+ * A skip list is a sorted linked list with extra "express lanes": every node is on the
+ * bottom level, about half of them are also on the level above, a quarter on the level
+ * above that, and so on, so a search can skip over most of the list in O(log n) steps.
+ *
+ * Removing a key happens in two steps:
+ * - First its node's value is atomically set to null. This is the moment the key
+ *   stops being in the dictionary, and only one thread can do it.
+ * - Then each of the node's links is marked, so that no new node can be linked in
+ *   right after it, and the node is unlinked from every level. Any thread that runs
+ *   into a marked node helps unlink it.
+ *
+ * get, getOrDefault, containsKey, floorKey and ceilingKey never modify the list, and
+ * never wait on other threads. size() and iterator() are weakly consistent: they never
+ * fail because of concurrent changes, but may or may not reflect changes made while
+ * they run.
+ */
+public class ConcurrentSkipListDictionary<K extends Comparable<K>, V> implements SortedRangeView.Backing<K, V> {
+    // Enough levels for far more nodes than we could ever store.
+    private static final int MAX_LEVEL = 32;
+
+    // Stands in for null values, since a null value marks a removed node.
+    private static final Object NULL_VALUE = new Object();
+
+    // The head node has no key, and comes before every other node on every level.
+    private final Node<K> head;
+    private final LongAdder size;
+
+    public ConcurrentSkipListDictionary() {
+        this.head = new Node<>(null, NULL_VALUE, MAX_LEVEL - 1);
+        this.size = new LongAdder();
+    }
+
+    @Override
+    public V get(K key) {
+        Object value = this.findValue(key);
+        if (value == null) {
+            throw new NoSuchKeyException();
+        }
+        return unmask(value);
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Object value = this.findValue(key);
+        return value == null ? defaultValue : unmask(value);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findValue(key) != null;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        this.put(key, value, true);
+    }
+
+    /**
+     * Adds the key-value pair only if the key is not already in the dictionary, as a
+     * single atomic step. Returns 'true' if the pair was added and 'false' if the key
+     * was already present (in which case its value is left alone).
+     */
+    public boolean putIfAbsent(K key, V value) {
+        return this.put(key, value, false);
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K>[] preds = makeArrayOfNodes(MAX_LEVEL);
+        Node<K>[] succs = makeArrayOfNodes(MAX_LEVEL);
+        if (!this.find(checkKey(key), preds, succs)) {
+            throw new NoSuchKeyException();
+        }
+
+        Node<K> node = succs[0];
+        while (true) {
+            Object value = node.value.get();
+            if (value == null) {
+                // another thread removed it first
+                throw new NoSuchKeyException();
+            }
+            if (node.value.compareAndSet(value, null)) {
+                this.size.decrement();
+                markLinks(node);
+                // find unlinks every marked node it passes, including this one
+                this.find(key, preds, succs);
+                return unmask(value);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, this.size.sum());
+    }
+
+    @Override
+    public K firstKey() {
+        Node<K> node = this.firstFrom(this.head.next[0].getReference(), null);
+        if (node == null) {
+            throw new EmptyContainerException();
+        }
+        return node.key;
+    }
+
+    @Override
+    public K lastKey() {
+        Node<K> node = this.lastBefore(null, false);
+        if (node == this.head) {
+            throw new EmptyContainerException();
+        }
+        return node.key;
+    }
+
+    @Override
+    public K floorKey(K key) {
+        Node<K> node = this.lastBefore(checkKey(key), true);
+        return node == this.head ? null : node.key;
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        Node<K> node = this.firstAtLeast(checkKey(key));
+        return node == null ? null : node.key;
+    }
+
+    @Override
+    public K lowerKey(K key) {
+        Node<K> node = this.lastBefore(checkKey(key), false);
+        return node == this.head ? null : node.key;
+    }
+
+    @Override
+    public ISortedDictionary<K, V> range(K low, K high) {
+        return new SortedRangeView<>(this, low, high);
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new SkipListIterator<>(this.firstFrom(this.head.next[0].getReference(), null), null);
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator(K low, K high) {
+        return new SkipListIterator<>(this.firstAtLeast(checkKey(low)), checkKey(high));
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain Node<K> objects.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> Node<K>[] makeArrayOfNodes(int arraySize) {
+        return (Node<K>[]) new Node[arraySize];
+    }
+
+    private static <K> K checkKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Sorted dictionaries do not support null keys");
+        }
+        return key;
+    }
+
+    private static Object mask(Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V unmask(Object value) {
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    // Returns a random level, where each level is half as likely as the one below.
+    private static int randomLevel() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        int level = Integer.numberOfTrailingZeros(bits);
+        return Math.min(level, MAX_LEVEL - 1);
+    }
+
+    /**
+     * Adds the pair, or (if 'replace' is true) updates the value of an existing key.
+     * Returns 'true' if a new pair was added.
+     */
+    private boolean put(K key, V value, boolean replace) {
+        checkKey(key);
+        Object masked = mask(value);
+        Node<K>[] preds = makeArrayOfNodes(MAX_LEVEL);
+        Node<K>[] succs = makeArrayOfNodes(MAX_LEVEL);
+        while (true) {
+            if (this.find(key, preds, succs)) {
+                Node<K> existing = succs[0];
+                Object current = existing.value.get();
+                if (current == null) {
+                    // It is being removed; help finish that, then try again.
+                    markLinks(existing);
+                    continue;
+                }
+                if (!replace || existing.value.compareAndSet(current, masked)) {
+                    return false;
+                }
+                continue;
+            }
+
+            Node<K> node = new Node<>(key, masked, randomLevel());
+            for (int level = 0; level <= node.topLevel; level++) {
+                node.next[level].set(succs[level], false);
+            }
+            // The node is in the dictionary as soon as it is on the bottom level.
+            if (!preds[0].next[0].compareAndSet(succs[0], node, false, false)) {
+                continue;
+            }
+            this.size.increment();
+            this.linkUpperLevels(node, preds, succs);
+            return true;
+        }
+    }
+
+    /**
+     * Links a node that is already on the bottom level into the levels above it. Stops
+     * early if the node is removed in the meantime.
+     */
+    private void linkUpperLevels(Node<K> node, Node<K>[] preds, Node<K>[] succs) {
+        for (int level = 1; level <= node.topLevel; level++) {
+            while (true) {
+                Node<K> oldNext = node.next[level].getReference();
+                if (node.next[level].isMarked()) {
+                    return;
+                }
+                if (oldNext != succs[level] && !node.next[level].compareAndSet(oldNext, succs[level], false, false)) {
+                    // the link was marked, so the node is being removed
+                    return;
+                }
+                if (preds[level].next[level].compareAndSet(succs[level], node, false, false)) {
+                    if (node.value.get() == null) {
+                        // It was removed while we were linking it, possibly after its
+                        // remover had already unlinked it from this level, so unlink it
+                        // again before anyone can use it as a shortcut.
+                        markLinks(node);
+                        this.find(node.key, preds, succs);
+                        return;
+                    }
+                    break;
+                }
+                this.find(node.key, preds, succs);
+                if (succs[0] != node) {
+                    // the node has already been removed from the bottom level
+                    return;
+                }
+            }
+        }
+    }
+
+    // Marks every link of a node whose value has been set to null, from the top down.
+    private static <K> void markLinks(Node<K> node) {
+        for (int level = node.topLevel; level >= 0; level--) {
+            boolean marked = node.next[level].isMarked();
+            while (!marked) {
+                Node<K> next = node.next[level].getReference();
+                node.next[level].compareAndSet(next, next, false, true);
+                marked = node.next[level].isMarked();
+            }
+        }
+    }
+
+    /**
+     * Fills 'preds' with the last node before the key on every level, and 'succs' with
+     * the node after that, unlinking any marked nodes along the way. Returns 'true' if
+     * succs[0] holds the key.
+     */
+    private boolean find(K key, Node<K>[] preds, Node<K>[] succs) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            Node<K> pred = this.head;
+            Node<K> curr = null;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                curr = pred.next[level].getReference();
+                while (curr != null) {
+                    Node<K> succ = curr.next[level].get(marked);
+                    if (marked[0]) {
+                        // curr is being removed, so unlink it and look at what follows
+                        if (!pred.next[level].compareAndSet(curr, succ, false, false)) {
+                            continue retry;
+                        }
+                        curr = succ;
+                    } else if (curr.key.compareTo(key) < 0) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != null && curr.key.compareTo(key) == 0;
+        }
+    }
+
+    /**
+     * Returns the (masked) value for the given key, or null if it is absent. Only
+     * reads the list, walking straight past nodes that are being removed.
+     */
+    private Object findValue(K key) {
+        Node<K> node = this.firstAfter(checkKey(key), true);
+        return node != null && node.key.compareTo(key) == 0 ? node.value.get() : null;
+    }
+
+    /**
+     * Returns the first live node whose key is at least the given key, or null if there
+     * is none.
+     */
+    private Node<K> firstAtLeast(K key) {
+        boolean inclusive = true;
+        while (true) {
+            Node<K> node = this.firstAfter(key, inclusive);
+            if (node == null || node.value.get() != null) {
+                return node;
+            }
+            // That node is being removed, so look for the one after it instead.
+            key = node.key;
+            inclusive = false;
+        }
+    }
+
+    /**
+     * Returns the first node on the bottom level whose key is greater than (or, if
+     * 'inclusive', equal to) the given key, or null if there is none.
+     *
+     * Nodes whose links are marked are stepped over rather than followed down, since
+     * their links may be stale: once a node is unlinked, new nodes can be inserted
+     * between its old neighbours without it ever pointing to them.
+     */
+    private Node<K> firstAfter(K key, boolean inclusive) {
+        boolean[] marked = {false};
+        Node<K> pred = this.head;
+        Node<K> curr = null;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            curr = pred.next[level].getReference();
+            while (curr != null) {
+                Node<K> succ = curr.next[level].get(marked);
+                if (marked[0]) {
+                    curr = succ;
+                } else if (isBefore(curr.key, key, !inclusive)) {
+                    pred = curr;
+                    curr = succ;
+                } else {
+                    break;
+                }
+            }
+        }
+        return curr;
+    }
+
+    /**
+     * Returns the first live node on the bottom level starting from the given one, or
+     * null if we reach the end (or a key that is not less than 'high', if not null).
+     */
+    private Node<K> firstFrom(Node<K> node, K high) {
+        while (node != null && (high == null || node.key.compareTo(high) < 0)) {
+            if (node.value.get() != null) {
+                return node;
+            }
+            node = node.next[0].getReference();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the last live node whose key is less than (or, if 'inclusive', equal to)
+     * the given key, or the head if there is none. A null key means there is no upper
+     * bound.
+     */
+    private Node<K> lastBefore(K key, boolean inclusive) {
+        boolean[] marked = {false};
+        while (true) {
+            Node<K> pred = this.head;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                Node<K> curr = pred.next[level].getReference();
+                while (curr != null) {
+                    Node<K> succ = curr.next[level].get(marked);
+                    if (marked[0]) {
+                        // as in firstAfter, never go down from a node being removed
+                        curr = succ;
+                    } else if (key == null || isBefore(curr.key, key, inclusive)) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+            }
+            if (pred == this.head || pred.value.get() != null) {
+                return pred;
+            }
+            // That node is being removed, so look for the one before it instead.
+            key = pred.key;
+            inclusive = false;
+        }
+    }
+
+    private static <K extends Comparable<K>> boolean isBefore(K key, K bound, boolean inclusive) {
+        int cmp = key.compareTo(bound);
+        return cmp < 0 || (inclusive && cmp == 0);
+    }
+
+    private static class Node<K> {
+        private final K key;
+        // The (masked) value, or null once the node has been removed.
+        private final AtomicReference<Object> value;
+        // next[i] is the following node on level i, and is marked once this node is
+        // being removed.
+        private final AtomicMarkableReference<Node<K>>[] next;
+        private final int topLevel;
+
+        @SuppressWarnings("unchecked")
+        public Node(K key, Object value, int topLevel) {
+            this.key = key;
+            this.value = new AtomicReference<>(value);
+            this.next = (AtomicMarkableReference<Node<K>>[]) new AtomicMarkableReference[topLevel + 1];
+            for (int i = 0; i <= topLevel; i++) {
+                this.next[i] = new AtomicMarkableReference<>(null, false);
+            }
+            this.topLevel = topLevel;
+        }
+    }
+
+    /**
+     * Walks along the bottom level, skipping removed nodes, until it reaches the end or
+     * a key that is not less than 'high' (if 'high' is not null).
+     */
+    private static class SkipListIterator<K extends Comparable<K>, V> implements Iterator<KVPair<K, V>> {
+        private Node<K> nextNode;
+        private Object nextValue;
+        private K high;
+
+        public SkipListIterator(Node<K> first, K high) {
+            this.high = high;
+            this.advanceTo(first);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextNode != null;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (this.nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> pair = new KVPair<>(this.nextNode.key, unmask(this.nextValue));
+            this.advanceTo(this.nextNode.next[0].getReference());
+            return pair;
+        }
+
+        // Moves to the first live node starting from the given one, and remembers its
+        // value so that next() returns a value the key really had.
+        private void advanceTo(Node<K> node) {
+            this.nextNode = null;
+            this.nextValue = null;
+            while (node != null && (this.high == null || node.key.compareTo(this.high) < 0)) {
+                Object value = node.value.get();
+                if (value != null) {
+                    this.nextNode = node;
+                    this.nextValue = value;
+                    return;
+                }
+                node = node.next[0].getReference();
+            }
+        }
+    }
+}
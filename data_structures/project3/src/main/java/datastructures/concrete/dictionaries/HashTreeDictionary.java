@@ -0,0 +1,315 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary backed by a balanced (AVL) binary search tree, meant for holding
+ * the contents of an overly long ChainedHashDictionary bucket.
+ *
+ * Keys are ordered by their hash code first. Keys that share a hash code are then
+ * ordered using compareTo if they are Comparable and of the same class. Keys that
+ * can't be told apart this way share a single tree node and are compared using
+ * equals, so lookups are O(log n) unless many keys have identical hash codes AND
+ * can't be compared.
+ */
+public class HashTreeDictionary<K, V> implements IDictionary<K, V> {
+    private Node<K, V> root;
+    private int size;
+
+    public HashTreeDictionary() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    private static boolean compareGeneric(Object data, Object other) {
+        return data == other || (data != null && data.equals(other));
+    }
+
+    private static int hashOf(Object key) {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = this.findEntry(key);
+        if (entry == null) {
+            throw new NoSuchKeyException();
+        }
+        return entry.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Entry<K, V> entry = this.findEntry(key);
+        return entry == null ? defaultValue : entry.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Entry<K, V> entry = this.findEntry(key);
+        if (entry != null) {
+            entry.value = value;
+        } else {
+            this.root = insert(this.root, key, hashOf(key), value);
+            this.size++;
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        Entry<K, V> entry = this.findEntry(key);
+        if (entry == null) {
+            throw new NoSuchKeyException();
+        }
+        this.root = delete(this.root, key, hashOf(key));
+        this.size--;
+        return entry.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findEntry(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new HashTreeIterator<>(this.root, this.size);
+    }
+
+    /**
+     * Orders the given key relative to the keys stored in the given node.
+     * Returns 0 if the key belongs inside that node.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareToNode(Object key, int hash, Node<?, ?> node) {
+        if (hash != node.hash) {
+            return hash < node.hash ? -1 : 1;
+        }
+        Object other = node.entries.key;
+        if (key == null || other == null) {
+            return key == other ? 0 : (key == null ? -1 : 1);
+        }
+        if (key.getClass() != other.getClass()) {
+            return key.getClass().getName().compareTo(other.getClass().getName());
+        }
+        if (key instanceof Comparable) {
+            return Integer.signum(((Comparable<Object>) key).compareTo(other));
+        }
+        return 0;
+    }
+
+    private Entry<K, V> findEntry(K key) {
+        int hash = hashOf(key);
+        Node<K, V> current = this.root;
+        while (current != null) {
+            int comparison = compareToNode(key, hash, current);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                for (Entry<K, V> entry = current.entries; entry != null; entry = entry.next) {
+                    if (compareGeneric(entry.key, key)) {
+                        return entry;
+                    }
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    // Precondition: the key is not already in the tree.
+    private static <K, V> Node<K, V> insert(Node<K, V> node, K key, int hash, V value) {
+        if (node == null) {
+            return new Node<>(hash, new Entry<>(key, value, null));
+        }
+        int comparison = compareToNode(key, hash, node);
+        if (comparison < 0) {
+            node.left = insert(node.left, key, hash, value);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, key, hash, value);
+        } else {
+            node.entries = new Entry<>(key, value, node.entries);
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    // Precondition: the key is in the tree.
+    private static <K, V> Node<K, V> delete(Node<K, V> node, K key, int hash) {
+        int comparison = compareToNode(key, hash, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, key, hash);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, key, hash);
+        } else if (node.entries.next != null) {
+            // other keys share this node, so just unlink the one entry
+            node.entries = unlink(node.entries, key);
+            return node;
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // replace this node with its successor
+            Node<K, V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.hash = successor.hash;
+            node.entries = successor.entries;
+            node.right = deleteMin(node.right);
+        }
+        return rebalance(node);
+    }
+
+    private static <K, V> Node<K, V> deleteMin(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static <K, V> Entry<K, V> unlink(Entry<K, V> entries, K key) {
+        if (compareGeneric(entries.key, key)) {
+            return entries.next;
+        }
+        Entry<K, V> previous = entries;
+        while (!compareGeneric(previous.next.key, key)) {
+            previous = previous.next;
+        }
+        previous.next = previous.next.next;
+        return entries;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void updateHeight(Node<?, ?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private static <K, V> Node<K, V> rebalance(Node<K, V> node) {
+        updateHeight(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <K, V> Node<K, V> rotateRight(Node<K, V> node) {
+        Node<K, V> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    private static <K, V> Node<K, V> rotateLeft(Node<K, V> node) {
+        Node<K, V> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    private static class Entry<K, V> {
+        public final K key;
+        public V value;
+        public Entry<K, V> next;
+
+        public Entry(K key, V value, Entry<K, V> next) {
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static class Node<K, V> {
+        // every entry in this node's list has this hash code
+        public int hash;
+        public Entry<K, V> entries;
+        public Node<K, V> left;
+        public Node<K, V> right;
+        public int height;
+
+        public Node(int hash, Entry<K, V> entries) {
+            this.hash = hash;
+            this.entries = entries;
+            this.left = null;
+            this.right = null;
+            this.height = 1;
+        }
+    }
+
+    private static class HashTreeIterator<K, V> implements Iterator<KVPair<K, V>> {
+        // nodes whose entries (and right subtrees) we still need to visit
+        private Node<K, V>[] stack;
+        private int stackSize;
+        private Entry<K, V> nextEntry;
+        private int remainingElements;
+
+        @SuppressWarnings("unchecked")
+        public HashTreeIterator(Node<K, V> root, int size) {
+            this.stack = (Node<K, V>[]) new Node[height(root) + 1];
+            this.stackSize = 0;
+            this.nextEntry = null;
+            this.remainingElements = size;
+            this.pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node<K, V> node) {
+            while (node != null) {
+                this.stack[this.stackSize] = node;
+                this.stackSize++;
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remainingElements > 0;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (this.nextEntry == null) {
+                this.stackSize--;
+                Node<K, V> node = this.stack[this.stackSize];
+                this.nextEntry = node.entries;
+                this.pushLeftSpine(node.right);
+            }
+            Entry<K, V> entry = this.nextEntry;
+            this.nextEntry = entry.next;
+            this.remainingElements--;
+            return new KVPair<>(entry.key, entry.value);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash dictionary that stores every pair directly in flat arrays (open addressing)
+ * instead of in per-bucket dictionaries like ChainedHashDictionary.
+ *
+ * Collisions are resolved with Robin Hood linear probing: when inserting, a key that
+ * has probed further from its home slot takes the place of one that hasn't, so every
+ * key ends up close to where it hashes to, even when the table is 90% full. This also
+ * means a lookup can stop as soon as it reaches a key that is closer to its own home
+ * than the key being looked up would be.
+ *
+ * Each slot also stores its key's hash code, so most mismatched keys are skipped
+ * without calling equals. remove shifts the following keys back by one slot instead
+ * of leaving a tombstone, so lookups never slow down after many removals.
+ */
+public class RobinHoodHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int MIN_CAPACITY = 16;
+
+    // The table is grown once it is more than MAX_LOAD_PERCENT percent full.
+    private static final int MAX_LOAD_PERCENT = 90;
+
+    // A stored hash of EMPTY marks an empty slot; real hashes are never EMPTY.
+    private static final int EMPTY = 0;
+
+    private int[] hashes;
+    private K[] keys;
+    private V[] values;
+    private int size;
+
+    public RobinHoodHashDictionary() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new dictionary that can hold 'expectedSize' pairs without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public RobinHoodHashDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.allocate(capacityFor(expectedSize));
+        this.size = 0;
+    }
+
+    /**
+     * This method will return a new, empty array of the given size
+     * that can contain objects of type T.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] makeArrayOf(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    private void allocate(int capacity) {
+        this.hashes = new int[capacity];
+        this.keys = makeArrayOf(capacity);
+        this.values = makeArrayOf(capacity);
+    }
+
+    @Override
+    public V get(K key) {
+        int index = this.indexOf(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return this.values[index];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = this.indexOf(key);
+        return index == -1 ? defaultValue : this.values[index];
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.indexOf(key) != -1;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int index = this.indexOf(key);
+        if (index != -1) {
+            this.values[index] = value;
+            return;
+        }
+        if ((this.size + 1) * 100L > (long) this.hashes.length * MAX_LOAD_PERCENT) {
+            this.resize(this.hashes.length * 2);
+        }
+        this.insertNew(hash(key), key, value);
+        this.size++;
+    }
+
+    @Override
+    public V remove(K key) {
+        int index = this.indexOf(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        V value = this.values[index];
+
+        // Shift every following key that isn't in its home slot back by one, which
+        // fills the gap and moves each of them one step closer to home.
+        int mask = this.hashes.length - 1;
+        int next = (index + 1) & mask;
+        while (this.hashes[next] != EMPTY && this.probeDistance(next) > 0) {
+            this.hashes[index] = this.hashes[next];
+            this.keys[index] = this.keys[next];
+            this.values[index] = this.values[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        this.hashes[index] = EMPTY;
+        this.keys[index] = null;
+        this.values[index] = null;
+
+        this.size--;
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new RobinHoodIterator<>(this.hashes, this.keys, this.values, this.size);
+    }
+
+    /**
+     * Returns the slot holding the given key, or -1 if it is not in the table.
+     */
+    private int indexOf(K key) {
+        int hash = hash(key);
+        int mask = this.hashes.length - 1;
+        int index = hash & mask;
+        for (int distance = 0; ; distance++) {
+            int stored = this.hashes[index];
+            // If we reach an empty slot, or a key that is closer to home than we would
+            // be here, our key would have taken this slot if it were in the table.
+            if (stored == EMPTY || this.probeDistance(index) < distance) {
+                return -1;
+            }
+            if (stored == hash && keysEqual(this.keys[index], key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Inserts a pair whose key is known not to be in the table. The table must have
+     * at least one empty slot.
+     */
+    private void insertNew(int hash, K key, V value) {
+        int mask = this.hashes.length - 1;
+        int index = hash & mask;
+        int distance = 0;
+        while (this.hashes[index] != EMPTY) {
+            int existingDistance = this.probeDistance(index);
+            if (existingDistance < distance) {
+                // Robin Hood: the key we're carrying is further from home, so it takes
+                // this slot and we carry on inserting the key we displaced.
+                int displacedHash = this.hashes[index];
+                K displacedKey = this.keys[index];
+                V displacedValue = this.values[index];
+                this.hashes[index] = hash;
+                this.keys[index] = key;
+                this.values[index] = value;
+                hash = displacedHash;
+                key = displacedKey;
+                value = displacedValue;
+                distance = existingDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        this.hashes[index] = hash;
+        this.keys[index] = key;
+        this.values[index] = value;
+    }
+
+    // Returns how many slots past its home slot the key in the given slot is.
+    private int probeDistance(int index) {
+        int mask = this.hashes.length - 1;
+        return (index - (this.hashes[index] & mask)) & mask;
+    }
+
+    private void resize(int newCapacity) {
+        int[] oldHashes = this.hashes;
+        K[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != EMPTY) {
+                this.insertNew(oldHashes[i], oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(Object key) {
+        // Hashes to 0 if the key is null, which we then bump to 1 like any other 0
+        int hash = 0;
+        if (key != null) {
+            hash = key.hashCode() * 0x9E3779B9;
+            hash ^= hash >>> 16;
+        }
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private static boolean keysEqual(Object key, Object other) {
+        return key == other || (key != null && key.equals(other));
+    }
+
+    /**
+     * Returns the smallest power-of-two capacity that can hold the given number of
+     * pairs without going over the maximum load.
+     */
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while ((long) capacity * MAX_LOAD_PERCENT < expectedSize * 100L) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private static class RobinHoodIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private int[] hashes;
+        private K[] keys;
+        private V[] values;
+        private int index;
+        private int remainingElements;
+
+        public RobinHoodIterator(int[] hashes, K[] keys, V[] values, int size) {
+            this.hashes = hashes;
+            this.keys = keys;
+            this.values = values;
+            this.index = 0;
+            this.remainingElements = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remainingElements > 0;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            while (this.hashes[this.index] == EMPTY) {
+                this.index++;
+            }
+            this.remainingElements--;
+            KVPair<K, V> pair = new KVPair<>(this.keys[this.index], this.values[this.index]);
+            this.index++;
+            return pair;
+        }
+    }
+}
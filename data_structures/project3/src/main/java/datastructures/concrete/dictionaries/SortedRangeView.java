@@ -0,0 +1,167 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.ISortedDictionary;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+
+/**
+ * The view returned by range(low, high) on the sorted dictionaries in this package: it
+ * holds the pairs of a backing dictionary whose keys are at least 'low' and less than
+ * 'high'.
+ *
+ * Every operation just checks its key against the bounds and hands off to the backing
+ * dictionary, so the view is only as fast (and as thread-safe) as the dictionary is.
+ */
+class SortedRangeView<K extends Comparable<K>, V> implements ISortedDictionary<K, V> {
+    private Backing<K, V> dict;
+    private K low;
+    private K high;
+
+    /**
+     * The two things a range view needs from its dictionary beyond ISortedDictionary.
+     */
+    interface Backing<K extends Comparable<K>, V> extends ISortedDictionary<K, V> {
+        /**
+         * Returns the largest key in this dictionary that is strictly less than the
+         * given key, or null if there is no such key.
+         */
+        K lowerKey(K key);
+
+        /**
+         * Returns the pairs whose keys are at least 'low' and less than 'high', in
+         * increasing order of key.
+         */
+        Iterator<KVPair<K, V>> iterator(K low, K high);
+    }
+
+    public SortedRangeView(Backing<K, V> dict, K low, K high) {
+        if (checkKey(low).compareTo(checkKey(high)) > 0) {
+            throw new IllegalArgumentException("low must not be greater than high");
+        }
+        this.dict = dict;
+        this.low = low;
+        this.high = high;
+    }
+
+    private static <K> K checkKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Sorted dictionaries do not support null keys");
+        }
+        return key;
+    }
+
+    private boolean inRange(K key) {
+        return checkKey(key).compareTo(this.low) >= 0 && key.compareTo(this.high) < 0;
+    }
+
+    @Override
+    public V get(K key) {
+        if (!this.inRange(key)) {
+            throw new NoSuchKeyException();
+        }
+        return this.dict.get(key);
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        if (!this.inRange(key)) {
+            return defaultValue;
+        }
+        return this.dict.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.inRange(key) && this.dict.containsKey(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        if (!this.inRange(key)) {
+            throw new IllegalArgumentException("Key is outside of this range");
+        }
+        this.dict.put(key, value);
+    }
+
+    @Override
+    public V remove(K key) {
+        if (!this.inRange(key)) {
+            throw new NoSuchKeyException();
+        }
+        return this.dict.remove(key);
+    }
+
+    /**
+     * Returns the number of pairs in this range. This takes time proportional to
+     * the number of pairs, since we have to count them.
+     */
+    @Override
+    public int size() {
+        int count = 0;
+        Iterator<KVPair<K, V>> iter = this.iterator();
+        while (iter.hasNext()) {
+            iter.next();
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !this.iterator().hasNext();
+    }
+
+    @Override
+    public K firstKey() {
+        K first = this.ceilingKey(this.low);
+        if (first == null) {
+            throw new EmptyContainerException();
+        }
+        return first;
+    }
+
+    @Override
+    public K lastKey() {
+        K last = this.dict.lowerKey(this.high);
+        if (last == null || last.compareTo(this.low) < 0) {
+            throw new EmptyContainerException();
+        }
+        return last;
+    }
+
+    @Override
+    public K floorKey(K key) {
+        K floor = checkKey(key).compareTo(this.high) >= 0
+                ? this.dict.lowerKey(this.high)
+                : this.dict.floorKey(key);
+        return floor != null && floor.compareTo(this.low) >= 0 ? floor : null;
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        K ceiling = this.dict.ceilingKey(checkKey(key).compareTo(this.low) < 0 ? this.low : key);
+        return ceiling != null && ceiling.compareTo(this.high) < 0 ? ceiling : null;
+    }
+
+    @Override
+    public ISortedDictionary<K, V> range(K newLow, K newHigh) {
+        if (checkKey(newLow).compareTo(checkKey(newHigh)) > 0) {
+            throw new IllegalArgumentException("low must not be greater than high");
+        }
+        K clampedLow = newLow.compareTo(this.low) < 0 ? this.low : newLow;
+        K clampedHigh = newHigh.compareTo(this.high) > 0 ? this.high : newHigh;
+        if (clampedLow.compareTo(clampedHigh) > 0) {
+            // the ranges don't overlap at all
+            clampedLow = clampedHigh;
+        }
+        return new SortedRangeView<>(this.dict, clampedLow, clampedHigh);
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return this.dict.iterator(this.low, this.high);
+    }
+}
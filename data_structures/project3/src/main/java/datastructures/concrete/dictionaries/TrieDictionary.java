@@ -0,0 +1,399 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary of strings stored as a radix tree (a path-compressed trie).
+ *
+ * Each edge of the tree is labelled with a string, and a key's value is stored at the
+ * node reached by following the edges that spell it out. Keys that share a prefix share
+ * the edges for that prefix, so every key with a given prefix (like "search",
+ * "searched", "searcher", ...) is somewhere below a single node. Chains of nodes with
+ * only one child are merged into a single edge, so the tree never has more nodes than
+ * twice the number of keys.
+ *
+ * get, put and remove take O(k) time, where k is the length of the key. Every node also
+ * records how many keys are below it, so countWithPrefix takes O(k) time as well, and
+ * prefixIterator finds its first key in O(k) time.
+ *
+ * Iteration returns keys in increasing order, as defined by String.compareTo. This
+ * dictionary does not support null keys: every method that takes a key throws an
+ * IllegalArgumentException if it is null.
+ */
+public class TrieDictionary<V> implements IDictionary<String, V> {
+    private Node<V> root;
+
+    public TrieDictionary() {
+        this.root = new Node<>("");
+    }
+
+    @Override
+    public V get(String key) {
+        Node<V> node = this.findNode(checkKey(key));
+        if (node == null || !node.hasValue) {
+            throw new NoSuchKeyException();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(String key, V defaultValue) {
+        Node<V> node = this.findNode(checkKey(key));
+        return node == null || !node.hasValue ? defaultValue : node.value;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        Node<V> node = this.findNode(checkKey(key));
+        return node != null && node.hasValue;
+    }
+
+    @Override
+    public void put(String key, V value) {
+        put(this.root, checkKey(key), 0, value);
+    }
+
+    @Override
+    public V remove(String key) {
+        Node<V> node = this.findNode(checkKey(key));
+        if (node == null || !node.hasValue) {
+            throw new NoSuchKeyException();
+        }
+        V value = node.value;
+        remove(this.root, key, 0);
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return this.root.count;
+    }
+
+    @Override
+    public Iterator<KVPair<String, V>> iterator() {
+        return new TrieIterator<>(this.root, "");
+    }
+
+    /**
+     * Returns every key-value pair whose key starts with the given prefix, in increasing
+     * order of key.
+     *
+     * @throws IllegalArgumentException  if prefix is null
+     */
+    public Iterator<KVPair<String, V>> prefixIterator(String prefix) {
+        checkKey(prefix);
+        Node<V> node = this.root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            Node<V> child = node.getChild(prefix.charAt(pos));
+            if (child == null) {
+                return new TrieIterator<>(null, null);
+            }
+            int matched = matchLength(child.label, prefix, pos);
+            if (pos + matched == prefix.length()) {
+                // The prefix ends partway along this edge (or exactly at its end), so
+                // every key below the child starts with it.
+                return new TrieIterator<>(child, prefix.substring(0, pos) + child.label);
+            } else if (matched < child.label.length()) {
+                return new TrieIterator<>(null, null);
+            }
+            pos += matched;
+            node = child;
+        }
+        return new TrieIterator<>(node, prefix);
+    }
+
+    /**
+     * Returns the number of keys that start with the given prefix.
+     *
+     * @throws IllegalArgumentException  if prefix is null
+     */
+    public int countWithPrefix(String prefix) {
+        checkKey(prefix);
+        Node<V> node = this.root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            Node<V> child = node.getChild(prefix.charAt(pos));
+            if (child == null) {
+                return 0;
+            }
+            int matched = matchLength(child.label, prefix, pos);
+            if (pos + matched == prefix.length()) {
+                return child.count;
+            } else if (matched < child.label.length()) {
+                return 0;
+            }
+            pos += matched;
+            node = child;
+        }
+        return node.count;
+    }
+
+    private static String checkKey(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Trie dictionaries do not support null keys");
+        }
+        return key;
+    }
+
+    /**
+     * Returns how many characters of 'label' match 'key', starting from key[pos].
+     */
+    private static int matchLength(String label, String key, int pos) {
+        int max = Math.min(label.length(), key.length() - pos);
+        int matched = 0;
+        while (matched < max && label.charAt(matched) == key.charAt(pos + matched)) {
+            matched++;
+        }
+        return matched;
+    }
+
+    /**
+     * Returns the node whose path spells out exactly the given key, or null if there is
+     * none. The node may or may not hold a value.
+     */
+    private Node<V> findNode(String key) {
+        Node<V> node = this.root;
+        int pos = 0;
+        while (pos < key.length()) {
+            Node<V> child = node.getChild(key.charAt(pos));
+            if (child == null || !key.startsWith(child.label, pos)) {
+                return null;
+            }
+            pos += child.label.length();
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Stores the value for key[pos...] in the subtree below 'node'. Returns 'true' if the
+     * key was new, in which case every node on the way has its count updated.
+     */
+    private static <V> boolean put(Node<V> node, String key, int pos, V value) {
+        boolean added;
+        if (pos == key.length()) {
+            added = !node.hasValue;
+            node.hasValue = true;
+            node.value = value;
+        } else {
+            Node<V> child = node.getChild(key.charAt(pos));
+            if (child == null) {
+                // No key shares the next character, so the rest of the key becomes one edge.
+                Node<V> leaf = new Node<>(key.substring(pos));
+                leaf.hasValue = true;
+                leaf.value = value;
+                leaf.count = 1;
+                node.addChild(leaf);
+                added = true;
+            } else {
+                int matched = matchLength(child.label, key, pos);
+                if (matched < child.label.length()) {
+                    // The key leaves this edge partway along, so split it in two.
+                    child = node.splitChild(child, matched);
+                }
+                added = put(child, key, pos + matched, value);
+            }
+        }
+        if (added) {
+            node.count++;
+        }
+        return added;
+    }
+
+    /**
+     * Removes key[pos...], which must be in the subtree below 'node', and merges away
+     * any node that no longer needs to exist.
+     */
+    private static <V> void remove(Node<V> node, String key, int pos) {
+        node.count--;
+        if (pos == key.length()) {
+            node.hasValue = false;
+            node.value = null;
+            return;
+        }
+
+        Node<V> child = node.getChild(key.charAt(pos));
+        remove(child, key, pos + child.label.length());
+        if (!child.hasValue) {
+            if (child.numChildren == 0) {
+                node.removeChild(child);
+            } else if (child.numChildren == 1) {
+                // child is now just a pass-through, so join its edge with the one below
+                Node<V> grandchild = child.children[0];
+                grandchild.label = child.label + grandchild.label;
+                node.replaceChild(child, grandchild);
+            }
+        }
+    }
+
+    /**
+     * A node in the tree. Children are kept sorted by the first character of their
+     * label, which is unique among siblings, so a child can be found by binary search
+     * and iteration visits keys in order.
+     */
+    private static class Node<V> {
+        private static final int INITIAL_CHILDREN = 2;
+
+        // The label of the edge from this node's parent to this node.
+        private String label;
+        private boolean hasValue;
+        private V value;
+        // The number of keys in this node's subtree, including this node's own key.
+        private int count;
+        private char[] firstChars;
+        private Node<V>[] children;
+        private int numChildren;
+
+        public Node(String label) {
+            this.label = label;
+            this.hasValue = false;
+            this.value = null;
+            this.count = 0;
+            this.firstChars = null;
+            this.children = null;
+            this.numChildren = 0;
+        }
+
+        public Node<V> getChild(char c) {
+            int index = this.indexOf(c);
+            return index >= 0 ? this.children[index] : null;
+        }
+
+        public void addChild(Node<V> child) {
+            if (this.children == null) {
+                this.firstChars = new char[INITIAL_CHILDREN];
+                this.children = makeArrayOfNodes(INITIAL_CHILDREN);
+            } else if (this.numChildren == this.children.length) {
+                char[] newFirstChars = new char[this.children.length * 2];
+                Node<V>[] newChildren = makeArrayOfNodes(this.children.length * 2);
+                System.arraycopy(this.firstChars, 0, newFirstChars, 0, this.numChildren);
+                System.arraycopy(this.children, 0, newChildren, 0, this.numChildren);
+                this.firstChars = newFirstChars;
+                this.children = newChildren;
+            }
+            int index = -this.indexOf(child.label.charAt(0)) - 1;
+            System.arraycopy(this.firstChars, index, this.firstChars, index + 1, this.numChildren - index);
+            System.arraycopy(this.children, index, this.children, index + 1, this.numChildren - index);
+            this.firstChars[index] = child.label.charAt(0);
+            this.children[index] = child;
+            this.numChildren++;
+        }
+
+        public void removeChild(Node<V> child) {
+            int index = this.indexOf(child.label.charAt(0));
+            System.arraycopy(this.firstChars, index + 1, this.firstChars, index, this.numChildren - index - 1);
+            System.arraycopy(this.children, index + 1, this.children, index, this.numChildren - index - 1);
+            this.numChildren--;
+            this.children[this.numChildren] = null;
+        }
+
+        // The replacement's label must start with the same character as the old child's.
+        public void replaceChild(Node<V> oldChild, Node<V> newChild) {
+            this.children[this.indexOf(oldChild.label.charAt(0))] = newChild;
+        }
+
+        /**
+         * Splits the edge to the given child after its first 'length' characters, and
+         * returns the new node in the middle.
+         */
+        public Node<V> splitChild(Node<V> child, int length) {
+            Node<V> middle = new Node<>(child.label.substring(0, length));
+            middle.count = child.count;
+            this.replaceChild(child, middle);
+            child.label = child.label.substring(length);
+            middle.addChild(child);
+            return middle;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with c, or
+         * (-(insertion point) - 1) if there is none, like Arrays.binarySearch.
+         */
+        private int indexOf(char c) {
+            int low = 0;
+            int high = this.numChildren - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (this.firstChars[mid] < c) {
+                    low = mid + 1;
+                } else if (this.firstChars[mid] > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * This method will return a new, empty array of the given size
+         * that can contain Node<V> objects.
+         */
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] makeArrayOfNodes(int arraySize) {
+            return (Node<V>[]) new Node[arraySize];
+        }
+    }
+
+    /**
+     * Visits every node with a value below a starting node, in order: each node before
+     * its children, and children in order of their first character.
+     */
+    private static class TrieIterator<V> implements Iterator<KVPair<String, V>> {
+        // Nodes still to visit, with the nodes we should visit first at the end.
+        private IList<Node<V>> nodes;
+        // The key each node in 'nodes' spells out.
+        private IList<String> keys;
+        private KVPair<String, V> next;
+
+        public TrieIterator(Node<V> start, String startKey) {
+            this.nodes = new DoubleLinkedList<>();
+            this.keys = new DoubleLinkedList<>();
+            this.next = null;
+            if (start != null) {
+                this.nodes.add(start);
+                this.keys.add(startKey);
+                this.advance();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public KVPair<String, V> next() {
+            if (this.next == null) {
+                throw new NoSuchElementException();
+            }
+            KVPair<String, V> pair = this.next;
+            this.next = null;
+            this.advance();
+            return pair;
+        }
+
+        // Visits nodes until we find one with a value, or run out.
+        private void advance() {
+            while (this.next == null && !this.nodes.isEmpty()) {
+                Node<V> node = this.nodes.remove();
+                String key = this.keys.remove();
+                for (int i = node.numChildren - 1; i >= 0; i--) {
+                    this.nodes.add(node.children[i]);
+                    this.keys.add(key + node.children[i].label);
+                }
+                if (node.hasValue) {
+                    this.next = new KVPair<>(key, node.value);
+                }
+            }
+        }
+    }
+}
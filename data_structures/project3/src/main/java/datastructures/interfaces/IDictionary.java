@@ -4,6 +4,10 @@ import datastructures.concrete.KVPair;
 import misc.exceptions.NoSuchKeyException;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a data structure that contains a bunch of key-value mappings. Each key must be unique.
@@ -39,6 +43,20 @@ public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
      */
     public void put(K key, V value);
 
+    /**
+     * Adds every key-value pair in the given dictionary to this one. If a key already
+     * exists in this dictionary, replace its value with the one from 'other'.
+     *
+     * Note: The interface provides a default implementation that simply calls put on
+     *       each pair, but implementations may override it with a version that sizes
+     *       themselves once up front.
+     */
+    public default void putAll(IDictionary<K, V> other) {
+        for (KVPair<K, V> pair : other) {
+            this.put(pair.getKey(), pair.getValue());
+        }
+    }
+
     /**
      * Remove the key-value pair corresponding to the given key from the dictionary.
      *
@@ -67,4 +85,31 @@ public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
      * Returns a list of all key-value pairs contained within this dict.
      */
     public Iterator<KVPair<K, V>> iterator();
+
+    /**
+     * Returns a spliterator over all key-value pairs contained within this dict.
+     *
+     * Note: The interface provides a default implementation that splits off batches
+     *       from this dictionary's iterator, but implementations may override it with
+     *       a version that splits their internal storage directly.
+     */
+    @Override
+    public default Spliterator<KVPair<K, V>> spliterator() {
+        return Spliterators.spliterator(
+                this.iterator(), this.size(), Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over all key-value pairs contained within this dict.
+     */
+    public default Stream<KVPair<K, V>> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over all key-value pairs contained within this dict.
+     */
+    public default Stream<KVPair<K, V>> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
 }
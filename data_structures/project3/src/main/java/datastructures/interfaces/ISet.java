@@ -2,6 +2,10 @@ package datastructures.interfaces;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a data structure that contains a unique collection of items.
@@ -14,6 +18,45 @@ public interface ISet<T> extends Iterable<T> {
      */
     public void add(T item);
 
+    /**
+     * Adds every item in the given set to this set.
+     *
+     * Note: The interface provides a default implementation that simply calls add on
+     *       each item, but implementations may override it with a version that sizes
+     *       themselves once up front.
+     */
+    public default void addAll(ISet<T> other) {
+        for (T item : other) {
+            this.add(item);
+        }
+    }
+
+    /**
+     * Returns a new set containing every item that is in this set, the other set, or both.
+     */
+    public ISet<T> union(ISet<T> other);
+
+    /**
+     * Returns a new set containing every item that is in both this set and the other set.
+     */
+    public ISet<T> intersection(ISet<T> other);
+
+    /**
+     * Returns a new set containing every item that is in this set but not the other set.
+     */
+    public ISet<T> difference(ISet<T> other);
+
+    /**
+     * Removes every item from this set that is not also in the other set.
+     */
+    public void retainAll(ISet<T> other);
+
+    /**
+     * Removes every item in the other set from this set. Items that are only in the
+     * other set are ignored.
+     */
+    public void removeAll(ISet<T> other);
+
     /**
      * Removes the given item from the set.
      *
@@ -42,4 +85,30 @@ public interface ISet<T> extends Iterable<T> {
      * Returns all items contained within this set.
      */
     public Iterator<T> iterator();
+
+    /**
+     * Returns a spliterator over all items contained within this set.
+     *
+     * Note: The interface provides a default implementation that splits off batches
+     *       from this set's iterator, but implementations may override it with a
+     *       version that splits their internal storage directly.
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * Returns a sequential stream over all items contained within this set.
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over all items contained within this set.
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
 }
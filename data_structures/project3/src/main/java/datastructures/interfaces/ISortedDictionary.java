@@ -0,0 +1,70 @@
+package datastructures.interfaces;
+
+import datastructures.concrete.KVPair;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Represents a dictionary whose keys are kept in sorted order, as defined by the keys'
+ * compareTo method.
+ *
+ * Sorted dictionaries do not support null keys: every method that takes a key throws
+ * an IllegalArgumentException if it is null.
+ */
+public interface ISortedDictionary<K extends Comparable<K>, V> extends IDictionary<K, V> {
+    /**
+     * Returns the smallest key in this dictionary.
+     *
+     * @throws EmptyContainerException  if the dictionary is empty
+     */
+    public K firstKey();
+
+    /**
+     * Returns the largest key in this dictionary.
+     *
+     * @throws EmptyContainerException  if the dictionary is empty
+     */
+    public K lastKey();
+
+    /**
+     * Returns the largest key in this dictionary that is less than or equal to the
+     * given key, or null if there is no such key.
+     */
+    public K floorKey(K key);
+
+    /**
+     * Returns the smallest key in this dictionary that is greater than or equal to the
+     * given key, or null if there is no such key.
+     */
+    public K ceilingKey(K key);
+
+    /**
+     * Returns a view of the part of this dictionary whose keys are at least 'low' and
+     * less than 'high'.
+     *
+     * The view is backed by this dictionary, so changes to one are visible in the other.
+     * Putting a key outside the range into the view throws an IllegalArgumentException.
+     *
+     * @throws IllegalArgumentException  if low is greater than high
+     */
+    public ISortedDictionary<K, V> range(K low, K high);
+
+    /**
+     * Returns all key-value pairs contained within this dict, in increasing order of key.
+     */
+    @Override
+    public Iterator<KVPair<K, V>> iterator();
+
+    /**
+     * Returns a spliterator over all key-value pairs contained within this dict, in
+     * increasing order of key.
+     */
+    @Override
+    public default Spliterator<KVPair<K, V>> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(),
+                Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.ORDERED);
+    }
+}
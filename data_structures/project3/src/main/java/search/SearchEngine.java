@@ -8,6 +8,7 @@ import misc.Searcher;
 import search.analyzers.PageRankAnalyzer;
 import search.analyzers.TfIdfAnalyzer;
 import search.misc.Bridge;
+import search.misc.Vocabulary;
 import search.misc.exceptions.DataExtractionException;
 import search.models.Result;
 import search.models.Webpage;
@@ -18,17 +19,21 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 public class SearchEngine {
     public static final double PAGE_RANK_DECAY = 0.85;
     public static final double PAGE_RANK_EPSILON = 0.0001;
     public static final int PAGE_RANK_ITERATION_LIMIT = 200;
 
+    // Every page, the TF-IDF analyzer and every query share this, so word ids line up.
+    private Vocabulary vocabulary;
     private ISet<WebpageSummary> pages;
     private TfIdfAnalyzer tfIdfAnalyzer;
     private PageRankAnalyzer pageRankAnalyzer;
 
     public SearchEngine(String dataFolderName) {
+        this.vocabulary = new Vocabulary();
         long start = System.currentTimeMillis();
         ISet<Webpage> webpages = this.collectWebpages(Paths.get("data", dataFolderName));
         long end = System.currentTimeMillis() - start;
@@ -38,7 +43,7 @@ public class SearchEngine {
         System.out.println("Done extracting");
 
         start = System.currentTimeMillis();
-        this.tfIdfAnalyzer = new TfIdfAnalyzer(webpages);
+        this.tfIdfAnalyzer = new TfIdfAnalyzer(webpages, this.vocabulary);
         this.pageRankAnalyzer = new PageRankAnalyzer(
                 webpages,
                 PAGE_RANK_DECAY,
@@ -49,7 +54,15 @@ public class SearchEngine {
     }
 
     public double computeScore(IList<String> query, URI uri) {
-        double tfIdf = this.tfIdfAnalyzer.computeRelevance(query, uri);
+        return this.computeScore(this.vocabulary.lookupAll(query), uri);
+    }
+
+    /**
+     * Scores a query that has already been turned into word ids
+     * in this engine's vocabulary (see Vocabulary.lookupAll).
+     */
+    public double computeScore(int[] queryTerms, URI uri) {
+        double tfIdf = this.tfIdfAnalyzer.computeRelevance(queryTerms, uri);
         double pageRank = this.pageRankAnalyzer.computePageRank(uri);
 
         if (pageRank <= 0.0) {
@@ -85,12 +98,14 @@ public class SearchEngine {
     public IList<Result> getTopKResults(IList<String> query, int k) {
         IList<Result> results = new DoubleLinkedList<>();
 
+        // look the query's words up once, rather than once per page
+        int[] queryTerms = this.vocabulary.lookupAll(query);
         for (WebpageSummary summary: this.pages) {
-            double score = this.computeScore(query, summary.getUri());
+            double score = this.computeScore(queryTerms, summary.getUri());
             results.add(new Result(summary, score));
         }
 
-        IList<Result> topK = Searcher.topKSort(k, results);
+        IList<Result> topK = Searcher.topKSort(k, results, Result::getScore);
 
         IList<Result> reversed = new DoubleLinkedList<>();
         for (Result res : topK) {
@@ -101,16 +116,22 @@ public class SearchEngine {
     }
 
     private ISet<Webpage> collectWebpages(Path root) {
-        try {
-            return Files.walk(root)
+        IList<Path> paths;
+        try (Stream<Path> files = Files.walk(root)) {
+            paths = files
                     .filter(Files::isRegularFile)
                     .filter(path -> path.toString().endsWith(".htm") || path.toString().endsWith(".html"))
-                    .map(Path::toUri)
-                    .map(Webpage::load)
-                    .collect(Bridge.toISet());
+                    .collect(Bridge.toIList());
         } catch (IOException ex) {
             throw new DataExtractionException("Could not find given root folder", ex);
         }
+
+        // Files.walk can't split its work up, so we list the files first and only
+        // then load (and parse) the pages in parallel.
+        return paths.parallelStream()
+                .map(Path::toUri)
+                .map(uri -> Webpage.load(uri, this.vocabulary))
+                .collect(Bridge.toISet());
     }
 
     private ISet<WebpageSummary> extractWebpageSummaries(ISet<Webpage> webpages) {
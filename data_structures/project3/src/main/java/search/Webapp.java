@@ -1,5 +1,6 @@
 package search;
 
+import datastructures.concrete.dictionaries.ConcurrentChainedHashDictionary;
 import datastructures.interfaces.IList;
 import search.misc.WordTokenizer;
 import search.models.Result;
@@ -29,11 +30,20 @@ public class Webapp {
      */
     private static final String TEMPLATE_FILES = "webapp/templates";
 
+    /**
+     * The most queries we will remember results for. Once the cache is full, new
+     * queries are simply answered without being cached.
+     */
+    private static final int MAX_CACHED_QUERIES = 1000;
+
     private final String siteName;
     private final SearchEngine engine;
     private final Service http;
     private final int port;
 
+    // Requests are handled on many threads at once, so the cache must be thread-safe.
+    private final ConcurrentChainedHashDictionary<String, IList<Result>> resultCache;
+
     /**
      * Creates a new instance of this class.
      *
@@ -45,6 +55,7 @@ public class Webapp {
         this.engine = engine;
         this.siteName = siteName;
         this.port = port;
+        this.resultCache = new ConcurrentChainedHashDictionary<>(MAX_CACHED_QUERIES);
 
         this.http = Service.ignite()
                 .staticFileLocation(STATIC_FILES)
@@ -82,7 +93,7 @@ public class Webapp {
 
         // Perform core search
         IList<String> queryTerms = WordTokenizer.extract(query);
-        IList<Result> results = this.engine.getTopKResults(queryTerms, numResults);
+        IList<Result> results = this.getTopKResults(queryTerms, numResults);
 
         // Render results
         Map<String, Object> model = new HashMap<>();
@@ -93,6 +104,29 @@ public class Webapp {
         return this.render("search.mustache", model);
     }
 
+    /**
+     * Returns the top results for the given query, reusing the results of an earlier
+     * identical query if we have them.
+     */
+    private IList<Result> getTopKResults(IList<String> queryTerms, int numResults) {
+        StringBuilder key = new StringBuilder().append(numResults);
+        for (String term : queryTerms) {
+            key.append(' ').append(term);
+        }
+        String cacheKey = key.toString();
+
+        IList<Result> results = this.resultCache.getOrDefault(cacheKey, null);
+        if (results == null) {
+            // Don't hold a stripe lock while searching: if two threads race on the same
+            // query, they both search and the first one to finish is cached.
+            results = this.engine.getTopKResults(queryTerms, numResults);
+            if (this.resultCache.size() < MAX_CACHED_QUERIES) {
+                this.resultCache.putIfAbsent(cacheKey, results);
+            }
+        }
+        return results;
+    }
+
     /**
      * Handles fatal errors that causes the webapp to crash before
      * it even has a chance to run.
@@ -53,10 +53,10 @@ public class PageRankAnalyzer {
     private IDictionary<URI, ISet<URI>> makeGraph(ISet<Webpage> webpages) {
         // 1. page should not map to itself
         // 2. if a page links to something that is not a page, ignore it
-        IDictionary<URI, ISet<URI>> graph = new ChainedHashDictionary<>();
+        IDictionary<URI, ISet<URI>> graph = new ChainedHashDictionary<>(webpages.size());
         
         // get a listing of all URIs
-        ISet<URI> allURIs = new ChainedHashSet<>();
+        ISet<URI> allURIs = new ChainedHashSet<>(webpages.size());
         for (Webpage page : webpages) {
             allURIs.add(page.getUri());   // only unique URIs will be stored
         }
@@ -66,9 +66,9 @@ public class PageRankAnalyzer {
             // for each link that is not itself and is a valid URI, add to mapping
             URI pageName = page.getUri();
             // create a new set if one doesn't exist already  (we are not guaranteed unique webpages)
-            ISet<URI> pageLinks = new ChainedHashSet<>();
-            if (graph.containsKey(pageName)) {
-                pageLinks = graph.get(pageName);
+            ISet<URI> pageLinks = graph.getOrDefault(pageName, null);
+            if (pageLinks == null) {
+                pageLinks = new ChainedHashSet<>(page.getLinks().size());
             }
             for (URI link : page.getLinks()) {
                 if (link != null && !link.equals(pageName) && allURIs.contains(link)) {
@@ -97,8 +97,8 @@ public class PageRankAnalyzer {
                                                    int limit,
                                                    double epsilon) {
         // create two dictionaries to store old and new ranks
-        IDictionary<URI, Double> oldRanks = new ChainedHashDictionary<>();
-        IDictionary<URI, Double> newRanks = new ChainedHashDictionary<>();
+        IDictionary<URI, Double> oldRanks = new ChainedHashDictionary<>(graph.size());
+        IDictionary<URI, Double> newRanks = new ChainedHashDictionary<>(graph.size());
         // initialize values: oldRanks = (1/n) at the beginning and newRanks = 0
         double n = graph.size();
         for (KVPair<URI, ISet<URI>> pair : graph) {  // initialize loop
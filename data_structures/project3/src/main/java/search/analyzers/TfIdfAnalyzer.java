@@ -1,13 +1,15 @@
 package search.analyzers;
 
-import datastructures.concrete.ChainedHashSet;
 import datastructures.concrete.KVPair;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.RobinHoodHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
+import search.misc.Vocabulary;
 import search.models.Webpage;
 import java.net.URI;
+import java.util.Arrays;
 
 /**
  * This class is responsible for computing how "relevant" any given document is
@@ -16,132 +18,167 @@ import java.net.URI;
  * See the spec for more details.
  */
 public class TfIdfAnalyzer {
+    // Every word is handled as its id in this vocabulary.
+    private Vocabulary vocabulary;
+
     // This field must contain the IDF score for every single word in all
-    // the documents.
-    private IDictionary<String, Double> idfScores;
-    private IDictionary<URI, Double> allDocumentNorms;
+    // the documents, indexed by the word's id. Words interned after this
+    // analyzer was built aren't in any of its documents, and have no entry.
+    private double[] idfScores;
 
     // This field must contain the TF-IDF vector for each webpage you were given
     // in the constructor.
     //
     // We will use each webpage's page URI as a unique key.
-    private IDictionary<URI, IDictionary<String, Double>> documentTfIdfVectors;
+    private IDictionary<URI, TermVector> documentTfIdfVectors;
 
     // Feel free to add extra fields and helper methods.
 
+    /**
+     * Builds an analyzer over the given webpages, numbering their words with a new
+     * vocabulary of its own.
+     */
     public TfIdfAnalyzer(ISet<Webpage> webpages) {
-        // Implementation note: We have commented these method calls out so your
-        // search engine doesn't immediately crash when you try running it for the
-        // first time.
-        //
-        this.idfScores = this.computeIdfScores(webpages);
-        this.documentTfIdfVectors = this.computeAllDocumentTfIdfVectors(webpages);
+        this(webpages, new Vocabulary());
+    }
+
+    /**
+     * Builds an analyzer over the given webpages, numbering their words with the given
+     * vocabulary. Pages whose words were already interned into it (as SearchEngine's
+     * are) are used as they are; any other page's words are interned again.
+     */
+    public TfIdfAnalyzer(ISet<Webpage> webpages, Vocabulary vocabulary) {
+        this.vocabulary = vocabulary;
+        // every page's words have to be in our vocabulary before we size anything by it
+        IDictionary<URI, int[]> pageTerms = new ChainedHashDictionary<>(webpages.size());
+        for (Webpage page : webpages) {
+            pageTerms.put(page.getUri(), this.termsOf(page));
+        }
+        this.idfScores = this.computeIdfScores(pageTerms);
+        this.documentTfIdfVectors = this.computeAllDocumentTfIdfVectors(pageTerms);
     }
 
     // Note: this method, strictly speaking, doesn't need to exist. However,
     // we've included it so we can add some unit tests to help verify that your
     // constructor correctly initializes your fields.
+    //
+    // The vectors are stored by word id, so this builds word -> score
+    // dictionaries from them; it is only meant for testing.
     public IDictionary<URI, IDictionary<String, Double>> getDocumentTfIdfVectors() {
-        return this.documentTfIdfVectors;
+        IDictionary<URI, IDictionary<String, Double>> out = new ChainedHashDictionary<>(this.documentTfIdfVectors.size());
+        for (KVPair<URI, TermVector> pair : this.documentTfIdfVectors) {
+            TermVector vector = pair.getValue();
+            IDictionary<String, Double> scores = new RobinHoodHashDictionary<>(vector.terms.length);
+            for (int i = 0; i < vector.terms.length; i++) {
+                scores.put(this.vocabulary.termOf(vector.terms[i]), vector.weights[i]);
+            }
+            out.put(pair.getKey(), scores);
+        }
+        return out;
     }
 
     /**
-     * Return a dictionary mapping every single unique word found
-     * in every single document to their IDF score.
+     * Returns the given page's words as ids in this analyzer's vocabulary.
      */
-    private IDictionary<String, Double> computeIdfScores(ISet<Webpage> pages) {
+    private int[] termsOf(Webpage page) {
+        if (page.getVocabulary() == this.vocabulary) {
+            return page.getTerms();
+        }
+        return this.vocabulary.internAll(page.getWords());
+    }
+
+    /**
+     * Return an array mapping the id of every single unique word found
+     * in every single document (given as its word ids) to their IDF score.
+     */
+    private double[] computeIdfScores(IDictionary<URI, int[]> pages) {
         /*
          * idf score = (number of pages) / (number of pages this word is in)
-         * 1. get all words from all pages
-         * 2. get all unique words from this
-         * 3. check if each word is in the page
-         * 4. compute score
+         * 1. count how many pages each word is in
+         * 2. compute score
          */
-        
-        // chainedhashdict is more efficient than arraydict
-        IDictionary<String, Double> rawIdfScores = new ChainedHashDictionary<>();
-        for (Webpage page : pages) {
-            // create a set to keep track of words already counted in this page
-            ISet<String> wordFound = new ChainedHashSet<>();
-            for (String word : page.getWords()) {
-                // if it's a new word in this page, update the score
-                if (!wordFound.contains(word)) {
-                    if (rawIdfScores.containsKey(word)) {
-                        rawIdfScores.put(word, rawIdfScores.get(word)+1);                        
-                    } else {
-                        rawIdfScores.put(word, 1.0);
-                    }
-                    wordFound.add(word);
+
+        // every page's words were interned before we got here, so they all fit
+        int numTerms = this.vocabulary.size();
+        int[] pageCounts = new int[numTerms];
+        // lastPageSeen[id] is the last page we counted the word in, so that each
+        // page only counts each word once
+        int[] lastPageSeen = new int[numTerms];
+        Arrays.fill(lastPageSeen, -1);
+
+        int pageIndex = 0;
+        for (KVPair<URI, int[]> page : pages) {
+            for (int term : page.getValue()) {
+                if (lastPageSeen[term] != pageIndex) {
+                    lastPageSeen[term] = pageIndex;
+                    pageCounts[term]++;
                 }
             }
+            pageIndex++;
         }
-        // now we have raw scores so compute final result
+
+        // now we have raw counts so compute final result
         int numpages = pages.size();
-        // create a new dictionary so we don't modify the same structure we're iterating over
-        IDictionary<String, Double> finalIdfScores = new ChainedHashDictionary<>();
-        for (KVPair<String, Double> score : rawIdfScores) {
-            double value = score.getValue();
+        double[] finalIdfScores = new double[numTerms];
+        for (int term = 0; term < numTerms; term++) {
             // ln(0) is not defined
-            if (value != 0) {
-                value = Math.log(numpages / value);
+            if (pageCounts[term] != 0) {
+                finalIdfScores[term] = Math.log(numpages / (double) pageCounts[term]);
             }
-            finalIdfScores.put(score.getKey(), value);
         }
         return finalIdfScores;
     }
 
     /**
-     * Returns a dictionary mapping every unique word found in the given list
-     * to their term frequency (TF) score.
-     *
-     * The input list represents the words contained within a single document.
+     * Returns the term frequency (TF) score of every unique word id in the given
+     * array, which represents the words contained within a single document.
      */
-    private IDictionary<String, Double> computeTfScores(IList<String> words) {
+    private static TermVector computeTfScores(int[] terms) {
         // tf = (number of times this words occurs in a page) / (number of words in this page)
-        IDictionary<String, Double> tfScores = new ChainedHashDictionary<>();
-        for (String word : words) {
-            // use hash dictionary to count word frequency
-            if (tfScores.containsKey(word)) {
-                tfScores.put(word, tfScores.get(word) + 1.0);
-            } else {
-                tfScores.put(word, 1.0);
+        // Sorting the ids puts repeats of the same word next to each other, so we
+        // can count them without hashing anything.
+        int[] sorted = Arrays.copyOf(terms, terms.length);
+        Arrays.sort(sorted);
+
+        int[] uniqueTerms = new int[sorted.length];
+        double[] tfScores = new double[sorted.length];
+        int numUnique = 0;
+        int i = 0;
+        while (i < sorted.length) {
+            int run = i;
+            while (run < sorted.length && sorted[run] == sorted[i]) {
+                run++;
             }
+            uniqueTerms[numUnique] = sorted[i];
+            tfScores[numUnique] = (run - i) / (double) terms.length;
+            numUnique++;
+            i = run;
         }
-        
-        int numWords = words.size();
-        IDictionary<String, Double> weightedTfScores = new ChainedHashDictionary<>();
-        for (KVPair<String, Double> pair : tfScores) {
-            weightedTfScores.put(pair.getKey(), pair.getValue() / numWords);
-        }
-        return weightedTfScores;
+        return new TermVector(Arrays.copyOf(uniqueTerms, numUnique), Arrays.copyOf(tfScores, numUnique));
     }
 
     /**
      * See spec for more details on what this method should do.
      */
-    private IDictionary<URI, IDictionary<String, Double>> computeAllDocumentTfIdfVectors(ISet<Webpage> pages) {
-        IDictionary<URI, IDictionary<String, Double>> documentScores = new ChainedHashDictionary<>();
-        // find norm of each page at the same time
-        IDictionary<URI, Double> documentNorms = new ChainedHashDictionary<>();
-        
+    private IDictionary<URI, TermVector> computeAllDocumentTfIdfVectors(IDictionary<URI, int[]> pages) {
+        // this is looked up once per page for every query, so it's worth keeping compact
+        IDictionary<URI, TermVector> documentScores = new RobinHoodHashDictionary<>(pages.size());
+
         // for each page, compute scores by multiplying tf*idf scores for each word
-        for (Webpage page : pages) {
-            URI pageURI = page.getUri();
-            IDictionary<String, Double> tfIdfScores = new ChainedHashDictionary<>();
-            IDictionary<String, Double> tfScores = computeTfScores(page.getWords());
-            
+        for (KVPair<URI, int[]> page : pages) {
+            TermVector vector = computeTfScores(page.getValue());
+
+            // find norm of each page at the same time
             double norm = 0.0;
-            // calculate tf-idf as tf*idf
-            for (KVPair<String, Double> pair : tfScores) {
-                String key = pair.getKey();
-                double score = pair.getValue() * idfScores.get(key);
+            // calculate tf-idf as tf*idf, in place
+            for (int i = 0; i < vector.terms.length; i++) {
+                double score = vector.weights[i] * this.idfScores[vector.terms[i]];
                 norm += score * score;
-                tfIdfScores.put(key, score);
+                vector.weights[i] = score;
             }
-            documentScores.put(pageURI, tfIdfScores);
-            documentNorms.put(pageURI, Math.sqrt(norm));
+            vector.norm = Math.sqrt(norm);
+            documentScores.put(page.getKey(), vector);
         }
-        this.allDocumentNorms = documentNorms;
         return documentScores;
     }
 
@@ -153,31 +190,66 @@ public class TfIdfAnalyzer {
      *               webpages given to the constructor.
      */
     public Double computeRelevance(IList<String> query, URI pageUri) {
+        return this.computeRelevance(this.vocabulary.lookupAll(query), pageUri);
+    }
+
+    /**
+     * Returns the cosine similarity between the TF-IDF vector for the given query, given
+     * as word ids (see Vocabulary.lookupAll), and the URI's document.
+     *
+     * Precondition: the given uri must have been one of the uris within the list of
+     *               webpages given to the constructor.
+     */
+    public Double computeRelevance(int[] queryTerms, URI pageUri) {
         // get tf-idf vector for the document and for the query
-        IDictionary<String, Double> documentVector = documentTfIdfVectors.get(pageUri);
-        IDictionary<String, Double> queryVector = computeTfScores(query);
-        
+        TermVector documentVector = this.documentTfIdfVectors.get(pageUri);
+        TermVector queryVector = computeTfScores(queryTerms);
+
         // calculate result without running a bunch of extra loops
         double queryVectorNorm = 0.0;
         double numerator = 0.0;
-        for (KVPair<String, Double> pair : queryVector) {
-            String word = pair.getKey();
-            double tf = pair.getValue();
-            
-            // weight each tf with the global idf (if idf doesn't contain it, give it an idf=0)
-            double idf = idfScores.containsKey(word) ? idfScores.get(word) : 0;
+        // both vectors are sorted by id, so each search only needs to look at the
+        // part of the document vector after the previous word's position
+        int searchFrom = 0;
+        for (int i = 0; i < queryVector.terms.length; i++) {
+            int term = queryVector.terms[i];
+            double tf = queryVector.weights[i];
+
+            // weight each tf with the idf over all documents (if the word is unknown, give it an idf=0)
+            double idf = term >= 0 && term < this.idfScores.length ? this.idfScores[term] : 0;
 
             double wordScore = tf*idf;
             queryVectorNorm += wordScore * wordScore;
 
             // if documentVector doesn't contain the word, give it a score of 0
-            double documentWordScore = documentVector.containsKey(word) ? documentVector.get(word) : 0;
-            numerator += wordScore * documentWordScore;
+            int index = Arrays.binarySearch(documentVector.terms, searchFrom, documentVector.terms.length, term);
+            if (index >= 0) {
+                numerator += wordScore * documentVector.weights[index];
+                searchFrom = index + 1;
+            } else {
+                searchFrom = -index - 1;
+            }
         }
 
         // denominator = norm(queryVector) * norm(documentVector)
-        double denominator = Math.sqrt(queryVectorNorm) * allDocumentNorms.get(pageUri);
+        double denominator = Math.sqrt(queryVectorNorm) * documentVector.norm;
         // if denominator is 0, return 0
         return denominator != 0 ? numerator / denominator : 0.0;
     }
+
+    /**
+     * A sparse vector of scores, one per word that appears in a document. The word ids
+     * are sorted, so two vectors can be matched up without hashing.
+     */
+    private static class TermVector {
+        private int[] terms;
+        private double[] weights;
+        private double norm;
+
+        public TermVector(int[] terms, double[] weights) {
+            this.terms = terms;
+            this.weights = weights;
+            this.norm = 0.0;
+        }
+    }
 }
@@ -37,34 +37,32 @@ public class Bridge {
         B apply(A item) throws Exception;
     }
 
-    public static class IListCollector<T> implements Collector<T, IList<T>, IList<T>> {
+    /**
+     * Collects a stream into a DoubleLinkedList. When run in parallel, partial results
+     * are joined by splicing the linked lists together, which takes O(1) time.
+     */
+    public static class IListCollector<T> implements Collector<T, DoubleLinkedList<T>, IList<T>> {
         @Override
-        public Supplier<IList<T>> supplier() {
+        public Supplier<DoubleLinkedList<T>> supplier() {
             return DoubleLinkedList::new;
         }
 
         @Override
-        public BiConsumer<IList<T>, T> accumulator() {
+        public BiConsumer<DoubleLinkedList<T>, T> accumulator() {
             return (list, item) -> list.add(item);
         }
 
         @Override
-        public BinaryOperator<IList<T>> combiner() {
+        public BinaryOperator<DoubleLinkedList<T>> combiner() {
             return (a, b) -> {
-                IList<T> out = new DoubleLinkedList<>();
-                for (T i : a) {
-                    out.add(i);
-                }
-                for (T i : b) {
-                    out.add(i);
-                }
-                return out;
+                a.concat(b);
+                return a;
             };
         }
 
         @Override
-        public Function<IList<T>, IList<T>> finisher() {
-            return Function.identity();
+        public Function<DoubleLinkedList<T>, IList<T>> finisher() {
+            return list -> list;
         }
 
         @Override
@@ -73,39 +71,45 @@ public class Bridge {
         }
     }
 
-    public static class ISetCollector<T> implements Collector<T, ISet<T>, ISet<T>> {
+    /**
+     * Collects a stream into a ChainedHashSet.
+     *
+     * Each thread adds its items straight into its own set, so duplicates are dropped as
+     * soon as they're seen. Partial results are combined by adding the smaller set into
+     * the larger one.
+     */
+    public static class ISetCollector<T> implements Collector<T, ChainedHashSet<T>, ISet<T>> {
         @Override
-        public Supplier<ISet<T>> supplier() {
+        public Supplier<ChainedHashSet<T>> supplier() {
             return ChainedHashSet::new;
         }
 
         @Override
-        public BiConsumer<ISet<T>, T> accumulator() {
-            return (list, item) -> list.add(item);
+        public BiConsumer<ChainedHashSet<T>, T> accumulator() {
+            return (set, item) -> set.add(item);
         }
 
         @Override
-        public BinaryOperator<ISet<T>> combiner() {
+        public BinaryOperator<ChainedHashSet<T>> combiner() {
             return (a, b) -> {
-                ISet<T> out = new ChainedHashSet<>();
-                for (T i : a) {
-                    out.add(i);
+                if (a.size() < b.size()) {
+                    b.addAll(a);
+                    return b;
                 }
-                for (T i : b) {
-                    out.add(i);
-                }
-                return out;
+                a.addAll(b);
+                return a;
             };
         }
 
         @Override
-        public Function<ISet<T>, ISet<T>> finisher() {
-            return Function.identity();
+        public Function<ChainedHashSet<T>, ISet<T>> finisher() {
+            return set -> set;
         }
 
         @Override
         public Set<Characteristics> characteristics() {
-            return EnumSet.of(Characteristics.IDENTITY_FINISH);
+            // sets have no order, so the stream doesn't need to preserve one for us
+            return EnumSet.of(Characteristics.UNORDERED, Characteristics.IDENTITY_FINISH);
         }
     }
 }
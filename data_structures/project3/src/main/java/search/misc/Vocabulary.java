@@ -0,0 +1,140 @@
+package search.misc;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.dictionaries.ConcurrentChainedHashDictionary;
+import datastructures.interfaces.IList;
+
+import java.util.Arrays;
+
+/**
+ * Assigns every distinct word a small integer id, handed out in order starting from 0.
+ *
+ * Once a document's words have been turned into ids, the rest of the search pipeline
+ * can count and compare them as plain ints, and index arrays by them, instead of
+ * hashing and comparing the same strings over and over.
+ *
+ * Vocabularies are thread-safe, since pages are loaded (and their words interned) in
+ * parallel. Each SearchEngine makes one vocabulary for its corpus and shares it between
+ * all of its webpages and its TfIdfAnalyzer, so that the same word has the same id no
+ * matter which page it came from. Since nothing else adds to it, arrays indexed by id
+ * are only as big as that corpus's vocabulary.
+ */
+public class Vocabulary {
+    // The id lookup returns for words that have never been interned.
+    public static final int UNKNOWN = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int DEFAULT_STRIPES = 16;
+
+    private final ConcurrentChainedHashDictionary<String, Integer> ids;
+    // terms[id] is the word with that id. Only modified while holding this object's lock.
+    private String[] terms;
+    private int size;
+
+    public Vocabulary() {
+        this(INITIAL_CAPACITY, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs a vocabulary that can hold 'expectedSize' words without resizing, whose
+     * word-to-id map is split into 'numStripes' independently locked stripes (see
+     * ConcurrentChainedHashDictionary). A vocabulary that only one thread ever adds to
+     * needs just one stripe.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative or numStripes is not positive
+     */
+    public Vocabulary(int expectedSize, int numStripes) {
+        this.ids = new ConcurrentChainedHashDictionary<>(expectedSize, numStripes);
+        this.terms = new String[Math.max(1, expectedSize)];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the id of the given word, giving it a new id if it doesn't have one yet.
+     */
+    public int intern(String term) {
+        Integer id = this.ids.getOrDefault(term, null);
+        if (id == null) {
+            id = this.ids.computeIfAbsent(term, this::addTerm);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the ids of each of the given words, in order, giving new ids to any words
+     * that don't have one yet.
+     */
+    public int[] internAll(IList<String> words) {
+        int[] out = new int[words.size()];
+        int i = 0;
+        for (String word : words) {
+            out[i] = this.intern(word);
+            i++;
+        }
+        return out;
+    }
+
+    /**
+     * Returns the id of the given word, or UNKNOWN if it has never been interned. Unlike
+     * intern, this never adds a word, so it is safe to use on arbitrary user input.
+     */
+    public int lookup(String term) {
+        return this.ids.getOrDefault(term, UNKNOWN);
+    }
+
+    /**
+     * Returns the ids of each of the given words, in order, using UNKNOWN for any word
+     * that has never been interned.
+     */
+    public int[] lookupAll(IList<String> words) {
+        int[] out = new int[words.size()];
+        int i = 0;
+        for (String word : words) {
+            out[i] = this.lookup(word);
+            i++;
+        }
+        return out;
+    }
+
+    /**
+     * Returns the word with the given id.
+     *
+     * @throws IllegalArgumentException  if no word has that id
+     */
+    public synchronized String termOf(int id) {
+        if (id < 0 || id >= this.size) {
+            throw new IllegalArgumentException("No term has id " + id);
+        }
+        return this.terms[id];
+    }
+
+    /**
+     * Returns the words with each of the given ids, in order.
+     *
+     * @throws IllegalArgumentException  if any of the ids doesn't belong to a word
+     */
+    public synchronized IList<String> termsOf(int[] ids) {
+        IList<String> out = new DoubleLinkedList<>();
+        for (int id : ids) {
+            out.add(this.termOf(id));
+        }
+        return out;
+    }
+
+    /**
+     * Returns the number of words in this vocabulary. Every id is less than this.
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    // Called at most once per word, by computeIfAbsent.
+    private synchronized Integer addTerm(String term) {
+        if (this.size == this.terms.length) {
+            this.terms = Arrays.copyOf(this.terms, this.terms.length * 2);
+        }
+        this.terms[this.size] = term;
+        this.size++;
+        return this.size - 1;
+    }
+}
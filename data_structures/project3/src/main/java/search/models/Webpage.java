@@ -9,6 +9,7 @@ import datastructures.interfaces.IList;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import search.misc.UnbufferedReader;
+import search.misc.Vocabulary;
 import search.misc.WebUtils;
 import search.misc.WordTokenizer;
 import search.misc.exceptions.DataExtractionException;
@@ -40,16 +41,30 @@ public class Webpage {
     // The remaining fields can be derived by inspecting the above two fields
     // and exist mainly so we can cache data we'd rather not recompute.
     private IList<URI> links;
-    private IList<String> words;
+    // The page's words, as ids in 'vocabulary'.
+    private Vocabulary vocabulary;
+    private int[] terms;
     private WebpageSummary summary;
 
     /**
-     * Constructs a new webpage instance.
+     * Constructs a new webpage instance, with its words interned into a vocabulary of
+     * its own, sized for just this page. Use the other constructor to share one
+     * vocabulary between many pages.
      */
     public Webpage(URI pageUri, IList<URI> links, IList<String> words, String title, String blurb) {
+        this(pageUri, links, words, title, blurb, new Vocabulary(words.size(), 1));
+    }
+
+    /**
+     * Constructs a new webpage instance. Every word is interned into the given
+     * vocabulary.
+     */
+    public Webpage(URI pageUri, IList<URI> links, IList<String> words, String title, String blurb,
+                   Vocabulary vocabulary) {
         this.pageUri = pageUri;
         this.links = links;
-        this.words = words;
+        this.vocabulary = vocabulary;
+        this.terms = vocabulary.internAll(words);
         this.summary = new WebpageSummary(pageUri, title, blurb);
     }
 
@@ -71,9 +86,27 @@ public class Webpage {
 
     /**
      * Returns a list of all words contained within this web page.
+     *
+     * The page only stores its words as ids, so this builds a new list each time it is
+     * called; prefer getTerms where ids will do.
      */
     public IList<String> getWords() {
-        return this.words;
+        return this.vocabulary.termsOf(this.terms);
+    }
+
+    /**
+     * Returns all words contained within this web page, in order, as ids in the
+     * page's vocabulary (see getVocabulary).
+     */
+    public int[] getTerms() {
+        return this.terms;
+    }
+
+    /**
+     * Returns the vocabulary this page's words were interned into.
+     */
+    public Vocabulary getVocabulary() {
+        return this.vocabulary;
     }
 
     /**
@@ -101,18 +134,26 @@ public class Webpage {
     // Note: You can safely ignore all the methods below this point.
 
     public static Webpage load(URI localUri) {
+        return Webpage.load(localUri, new Vocabulary());
+    }
+
+    public static Webpage load(URI localUri, Vocabulary vocabulary) {
         URI cacheURI = Webpage.getCacheURI(localUri);
         File cacheFile = new File(cacheURI);
         if (cacheFile.exists()) {
-            return Webpage.loadFromCache(cacheFile);
+            return Webpage.loadFromCache(cacheFile, vocabulary);
         } else {
-            Webpage out = Webpage.loadOriginal(localUri);
+            Webpage out = Webpage.loadOriginal(localUri, vocabulary);
             Webpage.saveToCache(out, cacheFile);
             return out;
         }
     }
 
     public static Webpage loadOriginal(URI localUri) {
+        return Webpage.loadOriginal(localUri, new Vocabulary());
+    }
+
+    public static Webpage loadOriginal(URI localUri, Vocabulary vocabulary) {
         // Extract some core data
         try (PushbackInputStream stream = Webpage.openLocalStream(localUri)) {
             IDictionary<String, String> metadata = Webpage.extractMetadata(stream);
@@ -129,7 +170,7 @@ public class Webpage {
             String title = Webpage.extractTitle(article, pageUri);
             String blurb = Webpage.extractBlurb(article);
 
-            return new Webpage(pageUri, links, words, title, blurb);
+            return new Webpage(pageUri, links, words, title, blurb, vocabulary);
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
@@ -149,8 +190,8 @@ public class Webpage {
             writer.write(summary.getBlurb() + "\n");
 
             // Line 4: words
-            for (String word : page.words) {
-                writer.write(word);
+            for (int term : page.terms) {
+                writer.write(page.vocabulary.termOf(term));
                 writer.write(' ');
             }
             writer.write('\n');
@@ -165,7 +206,7 @@ public class Webpage {
         }
     }
 
-    private static Webpage loadFromCache(File cache) {
+    private static Webpage loadFromCache(File cache, Vocabulary vocabulary) {
         try (BufferedReader reader = new BufferedReader(new FileReader(cache))) {
             // Line 1: Page URI
             URI pageUri = URI.create(reader.readLine().trim());
@@ -189,7 +230,7 @@ public class Webpage {
                 links.add(URI.create(line));
             }
 
-            return new Webpage(pageUri, links, words, title, blurb);
+            return new Webpage(pageUri, links, words, title, blurb, vocabulary);
         } catch (IOException ex) {
             throw new RuntimeException("Could not load cache", ex);
         }
@@ -1,7 +1,8 @@
 package search.scraper;
 
-import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.BucketQueue;
 import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.LockFreeHashSet;
 import datastructures.interfaces.IPriorityQueue;
 import datastructures.interfaces.ISet;
 import search.misc.WebUtils;
@@ -25,15 +26,18 @@ public class Scraper {
     private Path outputPath;
     private IPriorityQueue<PendingUri> pendingUris;
     private ISet<String> domainWhitelist;
-    private ISet<URI> alreadyEncountered;
+    // Every normalized URI we have ever queued (or fetched on a previous run). This is
+    // shared, so that crawl workers can atomically claim a URI with tryAdd.
+    private LockFreeHashSet<URI> alreadyEncountered;
     private HttpRequester requester;
 
     public Scraper(Path outputPath) {
         this.outputPath = outputPath;
-        this.pendingUris = new ArrayHeap<>();
+        // distances are small BFS depths, so we can bucket pages by distance instead of comparing them
+        this.pendingUris = new BucketQueue<>(pending -> pending.distance);
         this.domainWhitelist = new ChainedHashSet<>();
         this.requester = new HttpRequester();
-        this.alreadyEncountered = new ChainedHashSet<>();
+        this.alreadyEncountered = new LockFreeHashSet<>();
     }
 
     public Scraper addSeedUri(URI uri) {
@@ -41,6 +45,7 @@ public class Scraper {
         if (!normalizedUri.isPresent()) {
             throw new IllegalArgumentException("URI is malformed: " + uri);
         }
+        this.alreadyEncountered.add(normalizedUri.get());
         this.pendingUris.insert(new PendingUri(0, normalizedUri.get()));
         return this;
     }
@@ -64,7 +69,6 @@ public class Scraper {
                 // Handle page
                 PendingUri pending = this.pendingUris.removeMin();
                 URI uri = pending.uri;
-                this.alreadyEncountered.add(uri);
 
                 // Skip invalid pages
                 if (!this.domainWhitelist.contains(uri.getHost())) {
@@ -88,7 +92,8 @@ public class Scraper {
                 for (URI link : WebUtils.extractLinks(uri, document)) {
                     Optional<URI> normalizedUri = WebUtils.normalize(link);
 
-                    if (normalizedUri.isPresent() && !this.alreadyEncountered.contains(link)) {
+                    // Claim the link as we queue it, so it is only ever queued once
+                    if (normalizedUri.isPresent() && this.alreadyEncountered.tryAdd(normalizedUri.get())) {
                         this.pendingUris.insert(new PendingUri(pending.distance + 1, normalizedUri.get()));
                     }
                 }
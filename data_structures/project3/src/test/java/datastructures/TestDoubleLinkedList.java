@@ -13,6 +13,8 @@ import org.junit.Test;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 public class TestDoubleLinkedList extends BaseTest {
     /**
@@ -688,4 +690,101 @@ public class TestDoubleLinkedList extends BaseTest {
         }
         assertEquals(0, list.size());
     }
+
+
+    @Test(timeout=SECOND)
+    public void testStreamKeepsOrder() {
+        IList<String> list = this.makeBasicList();
+        assertEquals("a,b,c", list.stream().collect(Collectors.joining(",")));
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStreamVisitsEverything() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+        }
+        long total = list.parallelStream().mapToLong(i -> i).sum();
+        assertEquals(100000L * 99999L / 2, total);
+
+        // ordered streams must still come out in order, even when run in parallel
+        IList<Integer> firstFew = new DoubleLinkedList<>();
+        list.parallelStream().limit(5).forEachOrdered(firstFew::add);
+        assertEquals(5, firstFew.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, firstFew.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsInHalf() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 1001; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> suffix = list.spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertEquals(500L, prefix.estimateSize());
+        assertEquals(501L, suffix.estimateSize());
+
+        int[] next = {0};
+        prefix.forEachRemaining(item -> {
+            assertEquals(next[0], item);
+            next[0]++;
+        });
+        suffix.forEachRemaining(item -> {
+            assertEquals(next[0], item);
+            next[0]++;
+        });
+        assertEquals(1001, next[0]);
+    }
+
+
+    @Test(timeout=SECOND)
+    public void testConcat() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        DoubleLinkedList<String> other = new DoubleLinkedList<>();
+        list.concat(other);
+        assertTrue(list.isEmpty());
+
+        other.add("a");
+        other.add("b");
+        list.concat(other);
+        assertTrue(other.isEmpty());
+        assertEquals(2, list.size());
+
+        DoubleLinkedList<String> more = new DoubleLinkedList<>();
+        more.add("c");
+        list.concat(more);
+        list.add("d");
+        assertEquals(4, list.size());
+        assertEquals("a,b,c,d", String.join(",", list));
+        assertEquals("c", list.delete(2));
+        assertEquals("d", list.remove());
+        assertEquals("b", list.remove());
+        assertEquals("a", list.remove());
+
+        try {
+            list.concat(list);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testConcatIsEfficient() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>();
+        DoubleLinkedList<Integer> other = new DoubleLinkedList<>();
+        for (int i = 0; i < 100000; i++) {
+            other.add(i);
+        }
+        for (int i = 0; i < 100000; i++) {
+            list.concat(other);
+            other.add(i);
+        }
+        assertEquals(199999, list.size());
+    }
 }
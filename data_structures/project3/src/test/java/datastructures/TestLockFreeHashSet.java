@@ -0,0 +1,188 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.LockFreeHashSet;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+public class TestLockFreeHashSet extends BaseTest {
+    private static final int NUM_THREADS = 4;
+
+    private static void runInParallel(IntConsumer task) throws InterruptedException {
+        Thread[] threads = new Thread[NUM_THREADS];
+        for (int t = 0; t < NUM_THREADS; t++) {
+            int threadIndex = t;
+            threads[t] = new Thread(() -> task.accept(threadIndex));
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddContainsRemoveBasic() {
+        LockFreeHashSet<String> set = new LockFreeHashSet<>();
+        assertTrue(set.tryAdd("a"));
+        assertFalse(set.tryAdd("a"));
+        set.add("b");
+        set.add(null);
+        assertEquals(3, set.size());
+        assertTrue(set.contains(null));
+        assertTrue(set.contains(new String("a")));
+
+        set.remove(new String("a"));
+        assertFalse(set.contains("a"));
+        assertTrue(set.tryAdd("a"));
+        set.remove(null);
+        assertFalse(set.contains(null));
+        assertEquals(2, set.size());
+
+        try {
+            set.remove("c");
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testGrowAndIterate() {
+        ISet<Integer> set = new LockFreeHashSet<>();
+        int cap = 50000;
+        for (int i = 0; i < cap; i++) {
+            set.add(i);
+        }
+        assertEquals(cap, set.size());
+
+        boolean[] seen = new boolean[cap];
+        for (int item : set) {
+            assertFalse(seen[item]);
+            seen[item] = true;
+        }
+        for (int i = 0; i < cap; i++) {
+            assertTrue(seen[i]);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRepeatedAddRemoveClearsTombstones() {
+        ISet<Integer> set = new LockFreeHashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            set.add(i);
+            set.remove(i);
+        }
+        assertTrue(set.isEmpty());
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyEqualHashCodes() {
+        ISet<Wrapper> set = new LockFreeHashSet<>();
+        for (int i = 0; i < 500; i++) {
+            set.add(new Wrapper(i));
+        }
+        assertEquals(500, set.size());
+        for (int i = 0; i < 500; i++) {
+            assertTrue(set.contains(new Wrapper(i)));
+        }
+        assertFalse(set.contains(new Wrapper(500)));
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentTryAddClaimsEachItemOnce() throws InterruptedException {
+        LockFreeHashSet<Integer> set = new LockFreeHashSet<>();
+        AtomicInteger claimed = new AtomicInteger(0);
+        int numItems = 200000;
+
+        // Every thread races to add every item, in a different order.
+        runInParallel(thread -> {
+            for (int i = 0; i < numItems; i++) {
+                int item = (int) ((i * 7919L + thread * 104729L) % numItems);
+                if (set.tryAdd(item)) {
+                    claimed.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(numItems, claimed.get());
+        assertEquals(numItems, set.size());
+        for (int i = 0; i < numItems; i++) {
+            assertTrue(set.contains(i));
+        }
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentAddAndRemove() throws InterruptedException {
+        LockFreeHashSet<Integer> set = new LockFreeHashSet<>();
+        int perThread = 50000;
+
+        // Each thread adds its own range of items and removes the even ones.
+        runInParallel(thread -> {
+            int start = thread * perThread;
+            for (int i = start; i < start + perThread; i++) {
+                set.add(i);
+            }
+            for (int i = start; i < start + perThread; i += 2) {
+                set.remove(i);
+            }
+        });
+
+        assertEquals(NUM_THREADS * perThread / 2, set.size());
+        for (int i = 0; i < NUM_THREADS * perThread; i++) {
+            assertEquals(i % 2 == 1, set.contains(i));
+        }
+    }
+
+    private static class Wrapper {
+        private final int value;
+
+        public Wrapper(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Wrapper && ((Wrapper) other).value == this.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentClaimAndRelease() throws InterruptedException {
+        LockFreeHashSet<Integer> set = new LockFreeHashSet<>();
+        AtomicInteger claimed = new AtomicInteger(0);
+        int numItems = 2000;
+
+        // A thread that adds an item owns it until it removes it again, so no two
+        // threads may hold the same item at once, even while slots are revived and
+        // the table is rebuilt underneath them.
+        runInParallel(thread -> {
+            for (int round = 0; round < 50; round++) {
+                for (int i = 0; i < numItems; i++) {
+                    int item = (i * 7 + thread * 13 + round) % numItems;
+                    if (set.tryAdd(item)) {
+                        claimed.incrementAndGet();
+                        set.remove(item);
+                    }
+                }
+            }
+        });
+
+        assertTrue(claimed.get() >= numItems);
+        assertTrue(set.isEmpty());
+        assertFalse(set.iterator().hasNext());
+    }
+}
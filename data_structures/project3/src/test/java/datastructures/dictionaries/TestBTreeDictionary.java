@@ -0,0 +1,316 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.BTreeDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISortedDictionary;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestBTreeDictionary extends BaseTest {
+    protected <K extends Comparable<K>, V> ISortedDictionary<K, V> newDictionary() {
+        return new BTreeDictionary<>();
+    }
+
+    protected ISortedDictionary<Integer, Integer> makeEvens(int max) {
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < max; i += 2) {
+            dict.put(i, i * 10);
+        }
+        return dict;
+    }
+
+    // Checks that iterating over dict produces exactly 'keys', in order.
+    protected void assertKeys(int[] keys, ISortedDictionary<Integer, Integer> dict) {
+        Iterator<KVPair<Integer, Integer>> iter = dict.iterator();
+        for (int key : keys) {
+            assertTrue(iter.hasNext());
+            assertEquals(key, iter.next().getKey());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddGetRemoveBasic() {
+        ISortedDictionary<String, Integer> dict = this.newDictionary();
+        dict.put("b", 2);
+        dict.put("a", 1);
+        dict.put("c", 3);
+        dict.put("a", 10);
+
+        assertEquals(3, dict.size());
+        assertEquals(10, dict.get("a"));
+        assertEquals(3, dict.get("c"));
+        assertTrue(dict.containsKey("b"));
+        assertFalse(dict.containsKey("d"));
+        assertEquals(-1, dict.getOrDefault("d", -1));
+
+        assertEquals(2, dict.remove("b"));
+        assertEquals(2, dict.size());
+        assertFalse(dict.containsKey("b"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testMissingKeyThrowsException() {
+        ISortedDictionary<Integer, Integer> dict = this.makeEvens(10);
+        try {
+            dict.get(3);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove(3);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(5, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyThrowsException() {
+        ISortedDictionary<String, Integer> dict = this.newDictionary();
+        try {
+            dict.put(null, 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.floorKey(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratesInOrder() {
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        Random rand = new Random(20);
+        for (int i = 0; i < 5000; i++) {
+            dict.put(rand.nextInt(100000), i);
+        }
+
+        int count = 0;
+        Integer previous = null;
+        for (KVPair<Integer, Integer> pair : dict) {
+            if (previous != null) {
+                assertTrue(previous < pair.getKey());
+            }
+            previous = pair.getKey();
+            count++;
+        }
+        assertEquals(dict.size(), count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testFirstAndLastKey() {
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        try {
+            dict.firstKey();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+
+        for (int i = 1000; i > 0; i--) {
+            dict.put(i, i);
+        }
+        assertEquals(1, dict.firstKey());
+        assertEquals(1000, dict.lastKey());
+    }
+
+    @Test(timeout=SECOND)
+    public void testFloorAndCeilingKey() {
+        ISortedDictionary<Integer, Integer> dict = this.makeEvens(1000);
+
+        assertEquals(500, dict.floorKey(500));
+        assertEquals(500, dict.floorKey(501));
+        assertEquals(998, dict.floorKey(5000));
+        assertNull(dict.floorKey(-1));
+
+        assertEquals(500, dict.ceilingKey(500));
+        assertEquals(502, dict.ceilingKey(501));
+        assertEquals(0, dict.ceilingKey(-5));
+        assertNull(dict.ceilingKey(999));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRangeViewContents() {
+        ISortedDictionary<Integer, Integer> range = this.makeEvens(1000).range(101, 110);
+
+        this.assertKeys(new int[] {102, 104, 106, 108}, range);
+        assertEquals(4, range.size());
+        assertEquals(102, range.firstKey());
+        assertEquals(108, range.lastKey());
+        assertEquals(1040, range.get(104));
+        assertFalse(range.containsKey(110));
+        assertEquals(108, range.floorKey(500));
+        assertNull(range.floorKey(100));
+        assertEquals(102, range.ceilingKey(0));
+        assertNull(range.ceilingKey(109));
+
+        this.assertKeys(new int[] {104, 106}, range.range(103, 107));
+        this.assertKeys(new int[0], this.makeEvens(1000).range(101, 101));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRangeViewIsBackedByDictionary() {
+        ISortedDictionary<Integer, Integer> dict = this.makeEvens(100);
+        ISortedDictionary<Integer, Integer> range = dict.range(10, 20);
+
+        range.put(11, 0);
+        assertTrue(dict.containsKey(11));
+        dict.remove(12);
+        this.assertKeys(new int[] {10, 11, 14, 16, 18}, range);
+
+        try {
+            range.put(20, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            range.get(30);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.range(20, 10);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFromSorted() {
+        IList<KVPair<Integer, Integer>> pairs = new DoubleLinkedList<>();
+        for (int i = 0; i < 10000; i++) {
+            pairs.add(new KVPair<>(i * 3, i));
+        }
+        ISortedDictionary<Integer, Integer> dict = BTreeDictionary.fromSorted(pairs);
+
+        assertEquals(10000, dict.size());
+        assertEquals(0, dict.firstKey());
+        assertEquals(29997, dict.lastKey());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, dict.get(i * 3));
+        }
+
+        // A bulk loaded tree should keep working normally afterwards
+        for (int i = 0; i < 30000; i += 2) {
+            if (i % 3 == 0) {
+                dict.remove(i);
+            } else {
+                dict.put(i, -i);
+            }
+        }
+        assertEquals(15000, dict.size());
+        assertEquals(3, dict.floorKey(3));
+        assertEquals(4, dict.ceilingKey(4));
+    }
+
+    @Test(timeout=SECOND)
+    public void testFromSortedAwkwardSizes() {
+        // sizes just past a multiple of the node size, where an even split could leave
+        // nodes underfull or overfull
+        int[] sizes = {1, 31, 32, 49, 63, 64, 65, 97, 143, 3073, 4097};
+        for (int count : sizes) {
+            IList<KVPair<Integer, Integer>> pairs = new DoubleLinkedList<>();
+            for (int i = 0; i < count; i++) {
+                pairs.add(new KVPair<>(i, i));
+            }
+            ISortedDictionary<Integer, Integer> dict = BTreeDictionary.fromSorted(pairs);
+            assertEquals(count, dict.size());
+
+            // take the tree apart from the front, which forces merges all along the left
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, dict.firstKey());
+                assertEquals(i, dict.remove(i));
+                if (i + 1 < count) {
+                    assertEquals(count - 1, dict.lastKey());
+                }
+            }
+            assertTrue(dict.isEmpty());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFromSortedRejectsUnsortedInput() {
+        IList<KVPair<Integer, Integer>> pairs = new DoubleLinkedList<>();
+        pairs.add(new KVPair<>(1, 1));
+        pairs.add(new KVPair<>(1, 2));
+        try {
+            BTreeDictionary.fromSorted(pairs);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAndRemoveMany() {
+        // Enough keys to build a tree several levels deep, then take it apart again
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        int max = 100000;
+        for (int i = 0; i < max; i++) {
+            dict.put(i, i);
+        }
+        for (int i = 0; i < max; i += 2) {
+            assertEquals(i, dict.remove(i));
+        }
+        assertEquals(max / 2, dict.size());
+        assertEquals(1, dict.firstKey());
+        for (int i = max - 1; i > 0; i -= 2) {
+            assertEquals(i, dict.remove(i));
+        }
+        assertTrue(dict.isEmpty());
+        assertFalse(dict.iterator().hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomOperationsMatchReference() {
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        IDictionary<Integer, Integer> reference = new ChainedHashDictionary<>();
+        Random rand = new Random(21);
+        for (int i = 0; i < 100000; i++) {
+            int key = rand.nextInt(3000);
+            if (rand.nextBoolean()) {
+                dict.put(key, i);
+                reference.put(key, i);
+            } else if (reference.containsKey(key)) {
+                assertEquals(reference.remove(key), dict.remove(key));
+            } else {
+                assertFalse(dict.containsKey(key));
+            }
+        }
+
+        assertEquals(reference.size(), dict.size());
+        Integer previous = null;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(reference.get(pair.getKey()), pair.getValue());
+            if (previous != null) {
+                assertTrue(previous < pair.getKey());
+                assertEquals(previous, dict.floorKey(pair.getKey() - 1));
+            }
+            previous = pair.getKey();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package datastructures.dictionaries;
 
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.KVPair;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
 import org.junit.Test;
 
+import java.util.Spliterator;
+
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -39,6 +44,29 @@ public class TestChainedHashDictionary extends TestDictionary {
         assertEquals(-2, map.get(key2));
     }
 
+    @Test(timeout=SECOND)
+    public void testManyComparableObjectsWithSameHashCode() {
+        // a bucket this long only stays fast if it gets converted into a tree
+        IDictionary<TestHashTreeDictionary.CollidingKey, Integer> map = this.newDictionary();
+        int limit = 20000;
+        for (int i = 0; i < limit; i++) {
+            map.put(new TestHashTreeDictionary.CollidingKey(i), i);
+        }
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i, map.get(new TestHashTreeDictionary.CollidingKey(i)));
+        }
+
+        // shrink the bucket back down to a handful of keys
+        for (int i = 5; i < limit; i++) {
+            map.remove(new TestHashTreeDictionary.CollidingKey(i));
+        }
+        assertEquals(5, map.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, map.get(new TestHashTreeDictionary.CollidingKey(i)));
+        }
+        assertFalse(map.containsKey(new TestHashTreeDictionary.CollidingKey(5)));
+    }
+
     @Test(timeout=SECOND)
     public void testNegativeHashCode() {
         IDictionary<Wrapper<String>, String> dict = this.newDictionary();
@@ -88,4 +116,107 @@ public class TestChainedHashDictionary extends TestDictionary {
             dict.remove(i);
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testPreSizedDictionary() {
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(5000);
+        for (int i = 0; i < 10000; i++) {
+            dict.put(i, i);
+        }
+        assertEquals(10000, dict.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutAll() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        IDictionary<String, String> other = this.newDictionary();
+        other.put("keyC", "newC");
+        other.put("keyD", "valD");
+
+        dict.putAll(other);
+        this.assertDictMatches(
+                new String[] {"keyA", "keyB", "keyC", "keyD"},
+                new String[] {"valA", "valB", "newC", "valD"},
+                dict);
+        assertEquals(2, other.size());
+    }
+
+
+    @Test(timeout=SECOND)
+    public void testParallelStreamVisitsEverything() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 50000; i++) {
+            dict.put(i, -i);
+        }
+
+        assertEquals(50000L, dict.stream().count());
+        long keyTotal = dict.parallelStream().mapToLong(KVPair::getKey).sum();
+        long valueTotal = dict.parallelStream().mapToLong(KVPair::getValue).sum();
+        assertEquals(50000L * 49999L / 2, keyTotal);
+        assertEquals(-keyTotal, valueTotal);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorDuringIncrementalResize() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(true);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+
+        Spliterator<KVPair<Integer, Integer>> spliterator = dict.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(1000L, spliterator.estimateSize());
+
+        Spliterator<KVPair<Integer, Integer>> prefix = spliterator.trySplit();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+        long[] seen = {0L, 0L};
+        prefix.forEachRemaining(pair -> {
+            seen[0]++;
+            seen[1] += pair.getKey();
+        });
+        spliterator.forEachRemaining(pair -> {
+            seen[0]++;
+            seen[1] += pair.getKey();
+        });
+        assertEquals(1000L, seen[0]);
+        assertEquals(1000L * 999L / 2, seen[1]);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsAfterAdvancing() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+
+        long[] seen = {0L, 0L};
+        Spliterator<KVPair<Integer, Integer>> spliterator = dict.spliterator();
+        assertTrue(spliterator.tryAdvance(pair -> {
+            seen[0]++;
+            seen[1] += pair.getKey();
+        }));
+
+        // we're partway through the first bucket, but the rest can still be split off
+        Spliterator<KVPair<Integer, Integer>> other = spliterator.trySplit();
+        assertTrue(other != null);
+        Spliterator<KVPair<Integer, Integer>> third = spliterator.trySplit();
+        assertTrue(third != null);
+
+        IList<Spliterator<KVPair<Integer, Integer>>> parts = new DoubleLinkedList<>();
+        parts.add(spliterator);
+        parts.add(other);
+        parts.add(third);
+        for (Spliterator<KVPair<Integer, Integer>> part : parts) {
+            part.forEachRemaining(pair -> {
+                seen[0]++;
+                seen[1] += pair.getKey();
+            });
+        }
+        assertEquals(1000L, seen[0]);
+        assertEquals(1000L * 999L / 2, seen[1]);
+    }
 }
@@ -0,0 +1,142 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ConcurrentChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Re-runs every dictionary test against ConcurrentChainedHashDictionary, and checks
+ * that it stays consistent when many threads use it at once.
+ */
+public class TestConcurrentChainedHashDictionary extends TestDictionary {
+    private static final int NUM_THREADS = 4;
+
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ConcurrentChainedHashDictionary<>();
+    }
+
+    private static void runInParallel(IntConsumer task) throws InterruptedException {
+        Thread[] threads = new Thread[NUM_THREADS];
+        for (int t = 0; t < NUM_THREADS; t++) {
+            int threadIndex = t;
+            threads[t] = new Thread(() -> task.accept(threadIndex));
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutIfAbsentAndComputeIfAbsent() {
+        ConcurrentChainedHashDictionary<String, Integer> dict = new ConcurrentChainedHashDictionary<>();
+        assertTrue(dict.putIfAbsent("a", 1));
+        assertFalse(dict.putIfAbsent("a", 2));
+        assertEquals(1, dict.get("a"));
+
+        assertEquals(1, dict.computeIfAbsent("a", key -> 3));
+        assertEquals(5, dict.computeIfAbsent("bbbbb", String::length));
+        assertEquals(2, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testSingleStripe() {
+        IDictionary<Integer, Integer> dict = new ConcurrentChainedHashDictionary<>(0, 1);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, -i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(-i, dict.remove(i));
+        }
+        assertEquals(500, dict.size());
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(1, pair.getKey() % 2);
+            assertEquals(-pair.getKey(), pair.getValue());
+            count++;
+        }
+        assertEquals(500, count);
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentPutsAndRemoves() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int perThread = 50000;
+
+        // Each thread adds its own range of keys, and removes every other one.
+        runInParallel(thread -> {
+            int start = thread * perThread;
+            for (int i = start; i < start + perThread; i++) {
+                dict.put(i, i);
+            }
+            for (int i = start; i < start + perThread; i += 2) {
+                dict.remove(i);
+            }
+        });
+
+        assertEquals(NUM_THREADS * perThread / 2, dict.size());
+        for (int i = 0; i < NUM_THREADS * perThread; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(i));
+        }
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentPutIfAbsentAddsEachKeyOnce() throws InterruptedException {
+        ConcurrentChainedHashDictionary<Integer, Integer> dict = new ConcurrentChainedHashDictionary<>();
+        AtomicInteger added = new AtomicInteger(0);
+        AtomicInteger computed = new AtomicInteger(0);
+        int numKeys = 50000;
+
+        // Every thread races to add the same keys.
+        runInParallel(thread -> {
+            for (int i = 0; i < numKeys; i++) {
+                if (dict.putIfAbsent(i, thread)) {
+                    added.incrementAndGet();
+                }
+                dict.computeIfAbsent(-i - 1, key -> computed.incrementAndGet());
+            }
+        });
+
+        assertEquals(numKeys, added.get());
+        assertEquals(numKeys, computed.get());
+        assertEquals(2 * numKeys, dict.size());
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testReadersSeeConsistentValuesDuringWrites() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int numKeys = 1000;
+        for (int i = 0; i < numKeys; i++) {
+            dict.put(i, i);
+        }
+        AtomicInteger errors = new AtomicInteger(0);
+
+        // Thread 0 keeps adding new keys (forcing resizes) while the others read the
+        // original keys, which must stay visible the whole time.
+        runInParallel(thread -> {
+            if (thread == 0) {
+                for (int i = numKeys; i < 100 * numKeys; i++) {
+                    dict.put(i, i);
+                }
+            } else {
+                for (int round = 0; round < 100; round++) {
+                    for (int i = 0; i < numKeys; i++) {
+                        if (!dict.containsKey(i) || dict.get(i) != i) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }
+            }
+        });
+
+        assertEquals(0, errors.get());
+        assertEquals(100 * numKeys, dict.size());
+    }
+}
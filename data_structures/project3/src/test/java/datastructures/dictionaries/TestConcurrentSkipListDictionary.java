@@ -0,0 +1,208 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ConcurrentSkipListDictionary;
+import datastructures.interfaces.ISortedDictionary;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Re-runs every sorted dictionary test against ConcurrentSkipListDictionary, and checks
+ * that it stays consistent when many threads use it at once.
+ */
+public class TestConcurrentSkipListDictionary extends TestBTreeDictionary {
+    private static final int NUM_THREADS = 4;
+
+    @Override
+    protected <K extends Comparable<K>, V> ISortedDictionary<K, V> newDictionary() {
+        return new ConcurrentSkipListDictionary<>();
+    }
+
+    private static void runInParallel(IntConsumer task) throws InterruptedException {
+        Thread[] threads = new Thread[NUM_THREADS];
+        for (int t = 0; t < NUM_THREADS; t++) {
+            int threadIndex = t;
+            threads[t] = new Thread(() -> task.accept(threadIndex));
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullValues() {
+        ISortedDictionary<String, String> dict = this.newDictionary();
+        dict.put("a", null);
+        assertTrue(dict.containsKey("a"));
+        assertEquals(null, dict.get("a"));
+        assertEquals(null, dict.remove("a"));
+        assertFalse(dict.containsKey("a"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutIfAbsent() {
+        ConcurrentSkipListDictionary<String, Integer> dict = new ConcurrentSkipListDictionary<>();
+        assertTrue(dict.putIfAbsent("a", 1));
+        assertFalse(dict.putIfAbsent("a", 2));
+        assertEquals(1, dict.get("a"));
+        dict.remove("a");
+        assertTrue(dict.putIfAbsent("a", 3));
+        assertEquals(3, dict.get("a"));
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentPutsAndRemoves() throws InterruptedException {
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        int perThread = 50000;
+
+        // The threads' keys are interleaved, so they all work on the same part of the
+        // list at once. Each thread adds its keys, then removes every other one.
+        runInParallel(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                dict.put(i * NUM_THREADS + thread, i);
+            }
+            for (int i = 0; i < perThread; i += 2) {
+                dict.remove(i * NUM_THREADS + thread);
+            }
+        });
+
+        assertEquals(NUM_THREADS * perThread / 2, dict.size());
+        int expected = NUM_THREADS;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(expected, pair.getKey());
+            expected++;
+            if (expected % (2 * NUM_THREADS) == 0) {
+                expected += NUM_THREADS;
+            }
+        }
+        assertEquals(NUM_THREADS * perThread + NUM_THREADS, expected);
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentPutIfAbsentAddsEachKeyOnce() throws InterruptedException {
+        ConcurrentSkipListDictionary<Integer, Integer> dict = new ConcurrentSkipListDictionary<>();
+        AtomicInteger added = new AtomicInteger(0);
+        int numKeys = 50000;
+
+        // Every thread races to add the same keys.
+        runInParallel(thread -> {
+            for (int i = 0; i < numKeys; i++) {
+                if (dict.putIfAbsent(i, thread)) {
+                    added.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(numKeys, added.get());
+        assertEquals(numKeys, dict.size());
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentRemovesRemoveEachKeyOnce() throws InterruptedException {
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        int numKeys = 50000;
+        for (int i = 0; i < numKeys; i++) {
+            dict.put(i, i);
+        }
+        AtomicInteger removed = new AtomicInteger(0);
+
+        // Every thread races to remove the same keys; exactly one should win each.
+        runInParallel(thread -> {
+            for (int i = 0; i < numKeys; i++) {
+                try {
+                    dict.remove(i);
+                    removed.incrementAndGet();
+                } catch (NoSuchKeyException ex) {
+                    // Another thread got there first
+                }
+            }
+        });
+
+        assertEquals(numKeys, removed.get());
+        assertTrue(dict.isEmpty());
+        assertFalse(dict.iterator().hasNext());
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testIterationDuringWritesStaysOrdered() throws InterruptedException {
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        int numKeys = 2000;
+        for (int i = 0; i < numKeys; i += 2) {
+            dict.put(i, i);
+        }
+        AtomicInteger errors = new AtomicInteger(0);
+
+        // Thread 0 keeps adding and removing the odd keys while the others iterate; they
+        // must always see every even key, in order.
+        runInParallel(thread -> {
+            if (thread == 0) {
+                for (int round = 0; round < 20; round++) {
+                    for (int i = 1; i < numKeys; i += 2) {
+                        dict.put(i, i);
+                    }
+                    for (int i = 1; i < numKeys; i += 2) {
+                        dict.remove(i);
+                    }
+                }
+            } else {
+                for (int round = 0; round < 50; round++) {
+                    int previous = -1;
+                    int evens = 0;
+                    for (KVPair<Integer, Integer> pair : dict) {
+                        if (pair.getKey() <= previous || !pair.getKey().equals(pair.getValue())) {
+                            errors.incrementAndGet();
+                        }
+                        if (pair.getKey() % 2 == 0) {
+                            evens++;
+                        }
+                        previous = pair.getKey();
+                    }
+                    if (evens != numKeys / 2) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        assertEquals(0, errors.get());
+        assertEquals(numKeys / 2, dict.size());
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testPutThenGetWhileNeighboursAreRemoved() throws InterruptedException {
+        ISortedDictionary<Integer, Integer> dict = this.newDictionary();
+        int numKeys = 16;
+        AtomicInteger errors = new AtomicInteger(0);
+
+        // Each thread owns every NUM_THREADS-th key, so its neighbours belong to other
+        // threads and are being put and removed all around it. Once put returns, the
+        // key must be found until the same thread removes it again.
+        runInParallel(thread -> {
+            for (int round = 0; round < 20000; round++) {
+                for (int key = thread; key < numKeys; key += NUM_THREADS) {
+                    dict.put(key, round);
+                    if (!dict.containsKey(key) || dict.get(key) != round
+                            || dict.floorKey(key) != key || dict.ceilingKey(key) != key) {
+                        errors.incrementAndGet();
+                    }
+                }
+                for (int key = thread; key < numKeys; key += NUM_THREADS) {
+                    dict.remove(key);
+                    if (dict.containsKey(key)) {
+                        errors.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        assertEquals(0, errors.get());
+        assertTrue(dict.isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.RobinHoodHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestRobinHoodHashDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new RobinHoodHashDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveShiftsFollowingKeysBack() {
+        // Every key has the same hash code, so they all form one long probe run, and
+        // each remove has to shift the rest of the run back.
+        IDictionary<Wrapper<Integer>, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 200; i++) {
+            dict.put(new Wrapper<>(i, 0), i);
+        }
+        for (int i = 0; i < 200; i += 3) {
+            assertEquals(i, dict.remove(new Wrapper<>(i, 0)));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 3 != 0, dict.containsKey(new Wrapper<>(i, 0)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomOperationsMatchReference() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        // ArrayDictionary is slow, but simple enough to trust as a reference
+        IDictionary<Integer, Integer> reference = new ArrayDictionary<>();
+        Random rand = new Random(19);
+        for (int i = 0; i < 50000; i++) {
+            int key = rand.nextInt(2000);
+            if (rand.nextBoolean()) {
+                dict.put(key, i);
+                reference.put(key, i);
+            } else if (reference.containsKey(key)) {
+                assertEquals(reference.remove(key), dict.remove(key));
+            } else {
+                assertFalse(dict.containsKey(key));
+            }
+        }
+        assertEquals(reference.size(), dict.size());
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(reference.get(pair.getKey()), pair.getValue());
+            count++;
+        }
+        assertEquals(reference.size(), count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testPresizedDictionaryHoldsManyPairs() {
+        IDictionary<String, Double> dict = new RobinHoodHashDictionary<>(100000);
+        for (int i = 0; i < 100000; i++) {
+            dict.put("word" + i, i / 2.0);
+        }
+        for (int i = 0; i < 100000; i++) {
+            assertEquals(i / 2.0, dict.get("word" + i));
+        }
+        assertTrue(dict.containsKey("word0"));
+        assertFalse(dict.containsKey("word100000"));
+    }
+}
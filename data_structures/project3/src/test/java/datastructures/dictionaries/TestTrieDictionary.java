@@ -0,0 +1,156 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.TrieDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestTrieDictionary extends BaseTest {
+    protected TrieDictionary<Integer> makeWords(String... words) {
+        TrieDictionary<Integer> dict = new TrieDictionary<>();
+        for (int i = 0; i < words.length; i++) {
+            dict.put(words[i], i);
+        }
+        return dict;
+    }
+
+    // Checks that the iterator produces exactly 'keys', in order.
+    protected void assertKeys(String[] keys, Iterator<KVPair<String, Integer>> iter) {
+        for (String key : keys) {
+            assertTrue(iter.hasNext());
+            assertEquals(key, iter.next().getKey());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddGetRemoveBasic() {
+        TrieDictionary<Integer> dict = this.makeWords("search", "searcher", "sea", "seal", "team");
+        assertEquals(5, dict.size());
+        assertEquals(0, dict.get("search"));
+        assertEquals(2, dict.get("sea"));
+        assertFalse(dict.containsKey("se"));
+        assertFalse(dict.containsKey("searching"));
+        assertEquals(-1, dict.getOrDefault("s", -1));
+
+        dict.put("sea", 10);
+        assertEquals(10, dict.get("sea"));
+        assertEquals(5, dict.size());
+
+        assertEquals(0, dict.remove("search"));
+        assertFalse(dict.containsKey("search"));
+        assertTrue(dict.containsKey("searcher"));
+        assertEquals(4, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyStringKey() {
+        TrieDictionary<Integer> dict = this.makeWords("", "a");
+        assertEquals(0, dict.get(""));
+        assertEquals(2, dict.size());
+        dict.remove("");
+        assertFalse(dict.containsKey(""));
+        assertEquals(1, dict.get("a"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testMissingKeyThrowsException() {
+        TrieDictionary<Integer> dict = this.makeWords("abc", "abd");
+        try {
+            dict.get("ab");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove("abcd");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.put(null, 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(2, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratesInOrder() {
+        TrieDictionary<Integer> dict = this.makeWords("team", "sea", "tea", "searcher", "a", "search", "seal");
+        this.assertKeys(new String[] {"a", "sea", "seal", "search", "searcher", "tea", "team"}, dict.iterator());
+    }
+
+    @Test(timeout=SECOND)
+    public void testPrefixQueries() {
+        TrieDictionary<Integer> dict = this.makeWords("team", "sea", "tea", "searcher", "a", "search", "seal");
+
+        this.assertKeys(new String[] {"sea", "seal", "search", "searcher"}, dict.prefixIterator("se"));
+        this.assertKeys(new String[] {"search", "searcher"}, dict.prefixIterator("sear"));
+        this.assertKeys(new String[] {"search", "searcher"}, dict.prefixIterator("search"));
+        this.assertKeys(new String[0], dict.prefixIterator("seb"));
+        this.assertKeys(new String[0], dict.prefixIterator("searchers"));
+        assertEquals(7, dict.countWithPrefix(""));
+        assertEquals(4, dict.countWithPrefix("s"));
+        assertEquals(2, dict.countWithPrefix("sear"));
+        assertEquals(1, dict.countWithPrefix("searche"));
+        assertEquals(0, dict.countWithPrefix("x"));
+
+        dict.remove("search");
+        dict.remove("sea");
+        assertEquals(2, dict.countWithPrefix("s"));
+        this.assertKeys(new String[] {"seal", "searcher"}, dict.prefixIterator("se"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomOperationsMatchReference() {
+        TrieDictionary<Integer> dict = new TrieDictionary<>();
+        IDictionary<String, Integer> reference = new ChainedHashDictionary<>();
+        Random rand = new Random(22);
+        for (int i = 0; i < 50000; i++) {
+            // short words over a small alphabet, so lots of them share prefixes
+            StringBuilder word = new StringBuilder();
+            int length = rand.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + rand.nextInt(3)));
+            }
+            String key = word.toString();
+
+            if (rand.nextBoolean()) {
+                dict.put(key, i);
+                reference.put(key, i);
+            } else if (reference.containsKey(key)) {
+                assertEquals(reference.remove(key), dict.remove(key));
+            } else {
+                assertFalse(dict.containsKey(key));
+            }
+        }
+
+        assertEquals(reference.size(), dict.size());
+        String previous = null;
+        int withPrefix = 0;
+        for (KVPair<String, Integer> pair : dict) {
+            assertEquals(reference.get(pair.getKey()), pair.getValue());
+            if (previous != null) {
+                assertTrue(previous.compareTo(pair.getKey()) < 0);
+            }
+            if (pair.getKey().startsWith("ab")) {
+                withPrefix++;
+            }
+            previous = pair.getKey();
+        }
+        assertEquals(withPrefix, dict.countWithPrefix("ab"));
+    }
+}
@@ -5,9 +5,12 @@ import static org.junit.Assert.fail;
 import java.util.Collections;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Random;
 import misc.BaseTest;
 import misc.exceptions.EmptyContainerException;
 import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 import org.junit.Test;
 
@@ -310,4 +313,72 @@ public class TestArrayHeapFunctionality extends BaseTest {
         assertEquals(5, heap.removeMin());
         assertEquals(9, heap.removeMin());
     }
+
+
+    @Test(timeout=SECOND)
+    public void testHeapifyConstructor() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        Random rand = new Random(3);
+        for (int i = 0; i < 10000; i++) {
+            list.add(rand.nextInt(1000));
+        }
+        IPriorityQueue<Integer> heap = new ArrayHeap<>(list);
+        assertEquals(10000, heap.size());
+        assertEquals(10000, list.size());
+
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int next = heap.removeMin();
+            assertTrue(previous <= next);
+            previous = next;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAllSmallAndLargeBatches() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        IList<Integer> small = new DoubleLinkedList<>();
+        small.add(5);
+        small.add(1);
+        heap.insertAll(small);
+        heap.insertAll(new DoubleLinkedList<>());
+
+        IList<Integer> large = new DoubleLinkedList<>();
+        for (int i = 100; i > 1; i--) {
+            large.add(i);
+        }
+        heap.insertAll(large);
+
+        IList<Integer> another = new DoubleLinkedList<>();
+        another.add(0);
+        heap.insertAll(another);
+
+        assertEquals(102, heap.size());
+        assertEquals(0, heap.removeMin());
+        assertEquals(1, heap.removeMin());
+        assertEquals(2, heap.removeMin());
+        assertEquals(3, heap.removeMin());
+        assertEquals(4, heap.removeMin());
+        assertEquals(5, heap.removeMin());
+        assertEquals(5, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAllWithNullLeavesHeapUnchanged() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        heap.insert(7);
+        IList<Integer> items = new DoubleLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(i);
+        }
+        items.add(null);
+        try {
+            heap.insertAll(items);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(1, heap.size());
+        assertEquals(7, heap.removeMin());
+    }
 }
@@ -0,0 +1,107 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.BucketQueue;
+import datastructures.interfaces.IPriorityQueue;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class TestBucketQueue extends BaseTest {
+    protected IPriorityQueue<Integer> makeInstance() {
+        return new BucketQueue<>(item -> item);
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicInsertAndRemove() {
+        IPriorityQueue<Integer> queue = this.makeInstance();
+        queue.insert(3);
+        queue.insert(0);
+        queue.insert(40);
+        queue.insert(3);
+
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.peekMin());
+        assertEquals(0, queue.removeMin());
+        assertEquals(3, queue.removeMin());
+        assertEquals(3, queue.removeMin());
+        assertEquals(40, queue.removeMin());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEqualPrioritiesComeOutInInsertionOrder() {
+        IPriorityQueue<String> queue = new BucketQueue<>(String::length);
+        queue.insert("bb");
+        queue.insert("aa");
+        queue.insert("c");
+        queue.insert("dd");
+
+        assertEquals("c", queue.removeMin());
+        assertEquals("bb", queue.removeMin());
+        assertEquals("aa", queue.removeMin());
+        assertEquals("dd", queue.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertBelowCurrentMinimum() {
+        IPriorityQueue<Integer> queue = this.makeInstance();
+        queue.insert(10);
+        queue.insert(20);
+        assertEquals(10, queue.removeMin());
+        queue.insert(5);
+        assertEquals(5, queue.peekMin());
+        assertEquals(5, queue.removeMin());
+        assertEquals(20, queue.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        IPriorityQueue<Integer> queue = this.makeInstance();
+        try {
+            queue.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            queue.insert(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            queue.insert(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyMonotoneItems() {
+        IPriorityQueue<Integer> queue = this.makeInstance();
+        Random rand = new Random(5);
+        int current = 0;
+        int count = 0;
+        queue.insert(0);
+        while (!queue.isEmpty()) {
+            int next = queue.removeMin();
+            assertTrue(current <= next);
+            current = next;
+            count++;
+            // like a BFS, each item we remove adds a few items one level further down
+            if (count < 100000) {
+                for (int i = rand.nextInt(3); i >= 0; i--) {
+                    queue.insert(next + rand.nextInt(2));
+                }
+            }
+        }
+        assertTrue(count >= 100000);
+    }
+}
@@ -0,0 +1,115 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.DoubleIntHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class TestDoubleIntHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testBasicInsertAndRemove() {
+        DoubleIntHeap heap = new DoubleIntHeap(10);
+        heap.insert(3, 0.3);
+        heap.insert(1, 0.1);
+        heap.insert(2, 0.25);
+        heap.insert(0, 0.2);
+
+        assertEquals(4, heap.size());
+        assertEquals(1, heap.peekMin());
+        assertEquals(0.1, heap.peekMinPriority());
+
+        // differences under 1.0 must still be ordered correctly
+        int[] expected = {1, 0, 2, 3};
+        for (int item : expected) {
+            assertEquals(item, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKeyAndChangePriority() {
+        DoubleIntHeap heap = new DoubleIntHeap(5);
+        for (int i = 0; i < 5; i++) {
+            heap.insert(i, i * 10.0);
+        }
+        heap.decreaseKey(4, -1.0);
+        assertEquals(4, heap.peekMin());
+        assertEquals(-1.0, heap.getPriority(4));
+
+        heap.changePriority(4, 100.0);
+        heap.changePriority(0, 25.0);
+        int[] expected = {1, 2, 0, 3, 4};
+        for (int item : expected) {
+            assertEquals(item, heap.removeMin());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        DoubleIntHeap heap = new DoubleIntHeap(3);
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(3, 1.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        heap.insert(0, 1.0);
+        try {
+            heap.insert(0, 2.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.decreaseKey(0, 2.0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.changePriority(1, 2.0);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        assertFalse(heap.contains(1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomOperationsStaySorted() {
+        int cap = 100000;
+        DoubleIntHeap heap = new DoubleIntHeap(cap);
+        Random rand = new Random(7);
+        for (int i = 0; i < cap; i++) {
+            heap.insert(i, rand.nextDouble());
+        }
+        for (int i = 0; i < cap; i += 3) {
+            heap.changePriority(i, rand.nextDouble());
+        }
+
+        double previous = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        while (!heap.isEmpty()) {
+            double priority = heap.peekMinPriority();
+            int item = heap.removeMin();
+            assertFalse(heap.contains(item));
+            assertTrue(previous <= priority);
+            previous = priority;
+            count++;
+        }
+        assertEquals(cap, count);
+    }
+}
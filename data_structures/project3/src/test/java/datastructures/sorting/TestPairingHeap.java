@@ -0,0 +1,127 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.PairingHeap;
+import datastructures.interfaces.IPriorityQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Runs every ArrayHeap test against PairingHeap, plus tests for the operations
+ * only PairingHeap supports.
+ */
+public class TestPairingHeap extends TestArrayHeapFunctionality {
+    @Override
+    protected <T extends Comparable<T>> IPriorityQueue<T> makeInstance() {
+        return new PairingHeap<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKeyMovesItemToFront() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        heap.insert(5);
+        heap.insert(10);
+        PairingHeap.Handle<Integer> handle = heap.insertWithHandle(20);
+        heap.insert(15);
+
+        heap.decreaseKey(handle, 1);
+        assertEquals(1, handle.getItem());
+        assertEquals(1, heap.peekMin());
+        assertEquals(4, heap.size());
+
+        assertEquals(1, heap.removeMin());
+        assertFalse(handle.isInHeap());
+        assertEquals(5, heap.removeMin());
+        assertEquals(10, heap.removeMin());
+        assertEquals(15, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKeyErrors() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        PairingHeap.Handle<Integer> handle = heap.insertWithHandle(10);
+        try {
+            heap.decreaseKey(handle, 11);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(10, heap.peekMin());
+
+        heap.removeMin();
+        try {
+            heap.decreaseKey(handle, 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testMeldMovesEverything() {
+        PairingHeap<Integer> first = new PairingHeap<>();
+        PairingHeap<Integer> second = new PairingHeap<>();
+        for (int i = 0; i < 10; i++) {
+            first.insert(2 * i);
+            second.insert(2 * i + 1);
+        }
+        PairingHeap.Handle<Integer> handle = second.insertWithHandle(100);
+
+        first.meld(second);
+        assertEquals(21, first.size());
+        assertTrue(second.isEmpty());
+
+        first.decreaseKey(handle, -1);
+        assertEquals(-1, first.removeMin());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, first.removeMin());
+        }
+        assertTrue(first.isEmpty());
+
+        try {
+            first.meld(first);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomDecreaseKeysStayOrdered() {
+        Random rand = new Random(13);
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        int cap = 20000;
+        IPriorityQueue<Integer> expected = super.makeInstance();
+        @SuppressWarnings("unchecked")
+        PairingHeap.Handle<Integer>[] handles = new PairingHeap.Handle[cap];
+        for (int i = 0; i < cap; i++) {
+            handles[i] = heap.insertWithHandle(rand.nextInt(1000000));
+        }
+        for (int i = 0; i < cap; i++) {
+            int newItem = handles[i].getItem() - rand.nextInt(1000);
+            heap.decreaseKey(handles[i], newItem);
+            expected.insert(newItem);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(expected.removeMin(), heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyInsertsThenRemoveMinIsEfficient() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        int cap = 500000;
+        for (int i = cap - 1; i >= 0; i--) {
+            heap.insert(i);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+    }
+}
@@ -10,6 +10,7 @@ import static org.junit.Assert.fail;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 public class TestTopKSortFunctionality extends BaseTest {
     @Test(timeout=SECOND)
@@ -192,4 +193,48 @@ public class TestTopKSortFunctionality extends BaseTest {
         }
         return true;
     }
+
+
+    @Test(timeout=SECOND)
+    public void testScoredUsage() {
+        IList<String> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add("item" + i);
+        }
+
+        // score by how close the number is to 10.25, so higher scores are closer
+        IList<String> top = Searcher.topKSort(3, list,
+                item -> -Math.abs(Integer.parseInt(item.substring(4)) - 10.25));
+        assertEquals(3, top.size());
+        assertEquals("item9", top.get(0));
+        assertEquals("item11", top.get(1));
+        assertEquals("item10", top.get(2));
+        assertEquals(20, list.size());
+
+        assertEquals(0, Searcher.topKSort(0, list, String::length).size());
+        assertEquals(20, Searcher.topKSort(50, list, String::length).size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testScoredMatchesUnscoredOnShuffledInput() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values, new Random(10));
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int value : values) {
+            list.add(value);
+        }
+
+        // most items push out an earlier one, so the retained slots get reused many times
+        for (int k : new int[] {1, 7, 100, 999}) {
+            IList<Integer> expected = Searcher.topKSort(k, list);
+            IList<Integer> top = Searcher.topKSort(k, list, value -> value);
+            assertEquals(k, top.size());
+            for (int i = 0; i < k; i++) {
+                assertEquals(expected.get(i), top.get(i));
+            }
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package search;
+
+import datastructures.interfaces.IList;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.Test;
+import search.misc.Bridge;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertTrue;
+
+public class TestBridge extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testParallelListCollectorKeepsOrder() {
+        IList<Integer> list = IntStream.range(0, 100000).boxed().parallel().collect(Bridge.toIList());
+        assertEquals(100000, list.size());
+        int expected = 0;
+        for (int item : list) {
+            assertEquals(expected, item);
+            expected++;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelSetCollectorRemovesDuplicates() {
+        ISet<Integer> set = IntStream.range(0, 100000)
+                .map(i -> i % 5000)
+                .boxed()
+                .parallel()
+                .collect(Bridge.toISet());
+        assertEquals(5000, set.size());
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(set.contains(i));
+        }
+    }
+}
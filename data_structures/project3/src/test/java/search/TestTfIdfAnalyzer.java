@@ -10,6 +10,7 @@ import datastructures.interfaces.ISet;
 import misc.BaseTest;
 import org.junit.Test;
 import search.analyzers.TfIdfAnalyzer;
+import search.misc.Vocabulary;
 import search.models.Webpage;
 
 import java.net.URI;
@@ -135,4 +136,47 @@ public class TestTfIdfAnalyzer extends BaseTest {
                 analyzer.computeRelevance(query, URI.create("http://example.com/fake-page-c.html")),
                 DELTA);
     }
+
+    @Test(timeout=SECOND)
+    public void testSharedVocabulary() {
+        Vocabulary vocabulary = new Vocabulary();
+        ISet<Webpage> documents = new ChainedHashSet<>();
+        String[] texts = {
+            "the mouse played with the cat",
+            "the quick brown fox jumped over the lazy dog",
+            "dog 1 and dog 2 ate the hot dog",
+        };
+        for (int i = 0; i < texts.length; i++) {
+            documents.add(new Webpage(
+                    URI.create("http://example.com/fake-page-" + i + ".html"),
+                    new DoubleLinkedList<>(),
+                    strToIList(texts[i]),
+                    "title",
+                    "blurb",
+                    vocabulary));
+        }
+        // the vocabulary only holds this corpus's words
+        assertEquals(17, vocabulary.size());
+        for (Webpage page : documents) {
+            assertEquals(page.getTerms().length, page.getWords().size());
+        }
+
+        TfIdfAnalyzer analyzer = new TfIdfAnalyzer(documents, vocabulary);
+        assertEquals(17, vocabulary.size());
+        // building an unrelated analyzer doesn't touch this one's vocabulary
+        this.makeExampleAnalyzer();
+        assertEquals(17, vocabulary.size());
+
+        IList<String> query = strToIList("the 1 cat");
+        assertEquals(
+                0.353553,
+                analyzer.computeRelevance(query, URI.create("http://example.com/fake-page-0.html")),
+                DELTA);
+        assertEquals(
+                0.283389,
+                analyzer.computeRelevance(vocabulary.lookupAll(query), URI.create("http://example.com/fake-page-2.html")),
+                DELTA);
+        // looking up a query never adds its words
+        assertEquals(17, vocabulary.size());
+    }
 }
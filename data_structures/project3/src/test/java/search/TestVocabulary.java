@@ -0,0 +1,68 @@
+package search;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import org.junit.Test;
+import search.misc.Vocabulary;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+
+public class TestVocabulary extends BaseTest {
+    private IList<String> strToIList(String input) {
+        IList<String> output = new DoubleLinkedList<>();
+        for (String word : input.split(" ")) {
+            output.add(word);
+        }
+        return output;
+    }
+
+    @Test(timeout=SECOND)
+    public void testInternAssignsDenseIds() {
+        Vocabulary vocabulary = new Vocabulary();
+        assertArrayEquals(new int[] {0, 1, 0, 2}, vocabulary.internAll(strToIList("the cat the dog")));
+        assertEquals(3, vocabulary.size());
+        assertEquals(1, vocabulary.intern("cat"));
+        assertEquals("dog", vocabulary.termOf(2));
+    }
+
+    @Test(timeout=SECOND)
+    public void testLookupDoesNotIntern() {
+        Vocabulary vocabulary = new Vocabulary();
+        vocabulary.intern("cat");
+        int[] expected = {0, Vocabulary.UNKNOWN};
+        assertArrayEquals(expected, vocabulary.lookupAll(strToIList("cat mouse")));
+        assertEquals(1, vocabulary.size());
+        try {
+            vocabulary.termOf(1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentInterningGivesEachWordOneId() throws InterruptedException {
+        Vocabulary vocabulary = new Vocabulary();
+        int numWords = 20000;
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < numWords; i++) {
+                    vocabulary.intern("word" + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(numWords, vocabulary.size());
+        for (int i = 0; i < numWords; i++) {
+            int id = vocabulary.lookup("word" + i);
+            assertEquals("word" + i, vocabulary.termOf(id));
+        }
+    }
+}
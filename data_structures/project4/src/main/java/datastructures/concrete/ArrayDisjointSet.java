@@ -3,91 +3,62 @@ package datastructures.concrete;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IDisjointSet;
-import datastructures.interfaces.IList;
+
+import java.util.Arrays;
 
 /**
  * See IDisjointSet for more details.
+ *
+ * Each item is given an id (in the order makeSet was called), and the sets are stored
+ * in the same format, and use the same path halving and union-by-rank, as
+ * IntDisjointSet. Callers that already have dense integer ids should use
+ * IntDisjointSet directly and skip the dictionary lookups.
  */
 public class ArrayDisjointSet<T> implements IDisjointSet<T> {
     // Note: do NOT rename or delete this field. We will be inspecting it
     // directly within our private tests.
+    //
+    // pointers[id] is the parent of 'id', or, if 'id' is a root, -1 minus the rank
+    // of its tree.
     private int[] pointers;
     private IDictionary<T, Integer> nodeInventory;
 
-    // However, feel free to add more methods and private helper methods.
-    // You will probably need to add one or two more fields in order to
-    // successfully implement this class.
-
     public ArrayDisjointSet() {
-        pointers = new int[10];
-        nodeInventory = new ChainedHashDictionary<>();
+        this.pointers = new int[10];
+        this.nodeInventory = new ChainedHashDictionary<>();
     }
 
     @Override
     public void makeSet(T item) {
-        if (nodeInventory.containsKey(item)) {
+        if (this.nodeInventory.containsKey(item)) {
             throw new IllegalArgumentException();
         }
-        
-        int size = nodeInventory.size();
-        // if pointers is full, increase the size
-        if (pointers.length == size) {
-            int[] newPointers = new int[pointers.length * 2];
-            for (int i = 0; i < pointers.length; i++) {
-                newPointers[i] = pointers[i];
-            }
-            pointers = newPointers;
+
+        int size = this.nodeInventory.size();
+        if (size == this.pointers.length) {
+            this.pointers = Arrays.copyOf(this.pointers, this.pointers.length * 2);
         }
-        
-        pointers[size] = -1;
-        nodeInventory.put(item, size);
+        this.pointers[size] = -1;
+        this.nodeInventory.put(item, size);
     }
 
     @Override
     public int findSet(T item) {
-        // Error if it is not in a set
-        if (!nodeInventory.containsKey(item)) {
-            throw new IllegalArgumentException();
-        }
-        
-        IList<Integer> children = new DoubleLinkedList<>();
-        int currentIndex = nodeInventory.get(item);
-        while (pointers[currentIndex] >= 0) {
-            children.add(currentIndex);
-            currentIndex = pointers[currentIndex];
-        }
-        
-        // Compress so that all children of this parent point directly to it
-        for (int child : children) {
-            pointers[child] = currentIndex;
-        }
-        
-        return currentIndex;
+        return IntDisjointSet.findRoot(this.pointers, this.idOf(item));
     }
 
     @Override
     public void union(T item1, T item2) {
-        // if the rank is the same, break arbitrarily
-        int parent1 = findSet(item1);
-        int parent2 = findSet(item2);
-        
-        // same case
-        if (parent1 == parent2) {
+        if (!IntDisjointSet.unionIds(this.pointers, this.idOf(item1), this.idOf(item2))) {
             throw new IllegalArgumentException();
         }
-        
-        int rank1 = pointers[parent1];
-        int rank2 = pointers[parent2];
-        
-        // add to whichever has greater rank
-        if (rank1 <= rank2) {
-            pointers[parent2] = parent1;
-            // update the rank of parent1
-            if (rank1 == rank2) {
-                pointers[parent1]--;
-            }
-        } else {
-            pointers[parent1] = parent2;
+    }
+
+    private int idOf(T item) {
+        Integer id = this.nodeInventory.getOrDefault(item, null);
+        if (id == null) {
+            throw new IllegalArgumentException();
         }
+        return id;
     }
 }
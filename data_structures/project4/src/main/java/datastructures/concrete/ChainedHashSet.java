@@ -1,7 +1,6 @@
 package datastructures.concrete;
 
 import datastructures.concrete.dictionaries.ChainedHashDictionary;	
-import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.ISet;
 
 import java.util.Iterator;
@@ -12,18 +11,100 @@ import java.util.NoSuchElementException;
  */
 public class ChainedHashSet<T> implements ISet<T> {
     // This should be the only field you need
-    private IDictionary<T, Boolean> map;
+    private ChainedHashDictionary<T, Boolean> map;
 
     public ChainedHashSet() {
         // No need to change this method
         this.map = new ChainedHashDictionary<>();
     }
 
+    /**
+     * Constructs a new set that can hold 'expectedSize' items without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public ChainedHashSet(int expectedSize) {
+        this.map = new ChainedHashDictionary<>(expectedSize);
+    }
+
     @Override
     public void add(T item) {
         map.put(item, true);
     }
 
+    @Override
+    public void addAll(ISet<T> other) {
+        this.map.ensureCapacity(this.map.size() + other.size());
+        for (T item : other) {
+            this.map.put(item, true);
+        }
+    }
+
+    @Override
+    public ISet<T> union(ISet<T> other) {
+        ChainedHashSet<T> result = new ChainedHashSet<>(this.size() + other.size());
+        for (T item : this) {
+            result.map.put(item, true);
+        }
+        for (T item : other) {
+            result.map.put(item, true);
+        }
+        return result;
+    }
+
+    @Override
+    public ISet<T> intersection(ISet<T> other) {
+        // every item in the result is in both sets, so we only need to look through
+        // the smaller one
+        ISet<T> smaller = this;
+        ISet<T> larger = other;
+        if (other.size() < this.size()) {
+            smaller = other;
+            larger = this;
+        }
+        ChainedHashSet<T> result = new ChainedHashSet<>(smaller.size());
+        for (T item : smaller) {
+            if (larger.contains(item)) {
+                result.map.put(item, true);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ISet<T> difference(ISet<T> other) {
+        ChainedHashSet<T> result = new ChainedHashSet<>(this.size());
+        for (T item : this) {
+            if (!other.contains(item)) {
+                result.map.put(item, true);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void retainAll(ISet<T> other) {
+        if (other != this) {
+            // rebuilding from the intersection only looks through the smaller set
+            this.map = ((ChainedHashSet<T>) this.intersection(other)).map;
+        }
+    }
+
+    @Override
+    public void removeAll(ISet<T> other) {
+        if (other == this) {
+            this.map = new ChainedHashDictionary<>();
+        } else if (other.size() < this.size()) {
+            for (T item : other) {
+                if (this.map.containsKey(item)) {
+                    this.map.remove(item);
+                }
+            }
+        } else {
+            this.map = ((ChainedHashSet<T>) this.difference(other)).map;
+        }
+    }
+
     @Override
     public void remove(T item) {
         if (!contains(item)) {
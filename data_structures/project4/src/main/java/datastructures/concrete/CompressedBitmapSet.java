@@ -0,0 +1,625 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.ISet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of ints stored as a compressed bitmap, in the style of Roaring bitmaps.
+ *
+ * The 32-bit integers are split into chunks of 65536 consecutive values that share
+ * their upper 16 bits, and each non-empty chunk is stored in whichever container is
+ * smaller for it:
+ * - a sorted array of the lower 16 bits of each value, while the chunk holds at most
+ *   ARRAY_LIMIT values (2 bytes per value), or
+ * - a plain bitmap of 65536 bits (8 KB) once it holds more than that.
+ *
+ * So a set of dense ids, like vertex or document ids, costs about one bit per possible
+ * id, and a sparse set about two bytes per id -- either way far less than the boxed
+ * Integers and chain nodes of a ChainedHashSet<Integer>. The unboxed add(int),
+ * contains(int) and remove(int) take O(log n) time in the worst case (O(1) for bitmap
+ * chunks), and and, or and andNot work a whole chunk at a time, 64 values per
+ * operation for bitmap chunks.
+ *
+ * Iteration returns values in increasing order. This set does not support null.
+ */
+public class CompressedBitmapSet implements ISet<Integer> {
+    // The most values an array container holds before we switch it to a bitmap. At this
+    // size both take up 8 KB.
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int INITIAL_CONTAINERS = 4;
+
+    // keys[i] is the upper 16 bits shared by every value in containers[i]. The keys are
+    // kept sorted, and no container is empty.
+    private char[] keys;
+    private Container[] containers;
+    private int numContainers;
+    private int size;
+
+    public CompressedBitmapSet() {
+        this.keys = new char[INITIAL_CONTAINERS];
+        this.containers = new Container[INITIAL_CONTAINERS];
+        this.numContainers = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public void add(Integer item) {
+        this.add(checkItem(item).intValue());
+    }
+
+    /**
+     * Adds the given value to the set. Returns 'true' if it was added, and 'false' if it
+     * was already present.
+     */
+    public boolean add(int value) {
+        char key = highBits(value);
+        int index = this.indexOf(key);
+        if (index < 0) {
+            index = -index - 1;
+            this.insertContainer(index, key, new ArrayContainer());
+        }
+        Container container = this.containers[index];
+        int before = container.cardinality();
+        this.containers[index] = container.add(lowBits(value));
+        if (this.containers[index].cardinality() == before) {
+            return false;
+        }
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public void remove(Integer item) {
+        this.remove(checkItem(item).intValue());
+    }
+
+    /**
+     * Removes the given value from the set.
+     *
+     * @throws NoSuchElementException  if the set does not contain the given value
+     */
+    public void remove(int value) {
+        int index = this.indexOf(highBits(value));
+        if (index < 0 || !this.containers[index].contains(lowBits(value))) {
+            throw new NoSuchElementException();
+        }
+        Container container = this.containers[index].remove(lowBits(value));
+        if (container.cardinality() == 0) {
+            this.removeContainer(index);
+        } else {
+            this.containers[index] = container;
+        }
+        this.size--;
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        return item != null && this.contains(item.intValue());
+    }
+
+    /**
+     * Returns 'true' if the set contains the given value and false otherwise.
+     */
+    public boolean contains(int value) {
+        int index = this.indexOf(highBits(value));
+        return index >= 0 && this.containers[index].contains(lowBits(value));
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of values in this set; the same as size().
+     */
+    public int cardinality() {
+        return this.size;
+    }
+
+    /**
+     * Returns a new set containing the values that are in both this set and the other.
+     */
+    public CompressedBitmapSet and(CompressedBitmapSet other) {
+        CompressedBitmapSet result = new CompressedBitmapSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.numContainers && j < other.numContainers) {
+            if (this.keys[i] < other.keys[j]) {
+                i++;
+            } else if (this.keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendContainer(this.keys[i], this.containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set containing the values that are in this set, the other, or both.
+     */
+    public CompressedBitmapSet or(CompressedBitmapSet other) {
+        CompressedBitmapSet result = new CompressedBitmapSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.numContainers || j < other.numContainers) {
+            if (j == other.numContainers || (i < this.numContainers && this.keys[i] < other.keys[j])) {
+                result.appendContainer(this.keys[i], this.containers[i].copy());
+                i++;
+            } else if (i == this.numContainers || this.keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(this.keys[i], this.containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set containing the values that are in this set but not the other.
+     */
+    public CompressedBitmapSet andNot(CompressedBitmapSet other) {
+        CompressedBitmapSet result = new CompressedBitmapSet();
+        int j = 0;
+        for (int i = 0; i < this.numContainers; i++) {
+            while (j < other.numContainers && other.keys[j] < this.keys[i]) {
+                j++;
+            }
+            if (j < other.numContainers && other.keys[j] == this.keys[i]) {
+                result.appendContainer(this.keys[i], this.containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendContainer(this.keys[i], this.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ISet<Integer> union(ISet<Integer> other) {
+        if (other instanceof CompressedBitmapSet) {
+            return this.or((CompressedBitmapSet) other);
+        }
+        return SetOperations.union(this, other);
+    }
+
+    @Override
+    public ISet<Integer> intersection(ISet<Integer> other) {
+        if (other instanceof CompressedBitmapSet) {
+            return this.and((CompressedBitmapSet) other);
+        }
+        return SetOperations.intersection(this, other);
+    }
+
+    @Override
+    public ISet<Integer> difference(ISet<Integer> other) {
+        if (other instanceof CompressedBitmapSet) {
+            return this.andNot((CompressedBitmapSet) other);
+        }
+        return SetOperations.difference(this, other);
+    }
+
+    @Override
+    public void retainAll(ISet<Integer> other) {
+        SetOperations.retainAll(this, other);
+    }
+
+    @Override
+    public void removeAll(ISet<Integer> other) {
+        SetOperations.removeAll(this, other);
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new BitmapIterator(this.keys, this.containers, this.numContainers);
+    }
+
+    private static Integer checkItem(Integer item) {
+        if (item == null) {
+            throw new IllegalArgumentException("CompressedBitmapSet does not support null");
+        }
+        return item;
+    }
+
+    // Flipping the sign bit makes unsigned order match signed order, so negative values
+    // come first when we iterate.
+    private static char highBits(int value) {
+        return (char) ((value ^ Integer.MIN_VALUE) >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    private static int join(char high, int low) {
+        return ((high << 16) | low) ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns the index of the container with the given key, or (-(insertion point) - 1)
+     * if there is none, like Arrays.binarySearch.
+     */
+    private int indexOf(char key) {
+        return Arrays.binarySearch(this.keys, 0, this.numContainers, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (this.numContainers == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.keys.length * 2);
+            this.containers = Arrays.copyOf(this.containers, this.containers.length * 2);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.numContainers - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.numContainers - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.numContainers++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.numContainers - index - 1);
+        System.arraycopy(this.containers, index + 1, this.containers, index, this.numContainers - index - 1);
+        this.numContainers--;
+        this.containers[this.numContainers] = null;
+    }
+
+    // Adds a container whose key is larger than every key so far, unless it is empty.
+    private void appendContainer(char key, Container container) {
+        if (container.cardinality() > 0) {
+            this.insertContainer(this.numContainers, key, container);
+            this.size += container.cardinality();
+        }
+    }
+
+    /**
+     * The values in one chunk, stored as their lower 16 bits. The methods that change a
+     * container return the container to use from then on, which may be a new one of the
+     * other kind.
+     */
+    private abstract static class Container {
+        public abstract int cardinality();
+
+        public abstract boolean contains(char value);
+
+        public abstract Container add(char value);
+
+        // The value must be in the container.
+        public abstract Container remove(char value);
+
+        /**
+         * Returns the smallest value in this container that is at least 'from', or -1 if
+         * there is none.
+         */
+        public abstract int nextValue(int from);
+
+        public abstract Container copy();
+
+        public abstract BitmapContainer toBitmap();
+
+        public abstract Container and(Container other);
+
+        public abstract Container andNot(Container other);
+
+        public Container or(Container other) {
+            if (this instanceof ArrayContainer && other instanceof ArrayContainer
+                    && this.cardinality() + other.cardinality() <= ARRAY_LIMIT) {
+                return ((ArrayContainer) this).union((ArrayContainer) other);
+            }
+            BitmapContainer result = this.toBitmap();
+            result.orInPlace(other);
+            return result.shrinkIfSmall();
+        }
+    }
+
+    private static class ArrayContainer extends Container {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private char[] values;
+        private int cardinality;
+
+        public ArrayContainer() {
+            this(new char[INITIAL_CAPACITY], 0);
+        }
+
+        public ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (this.cardinality == ARRAY_LIMIT) {
+                return this.toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (this.cardinality == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.min(ARRAY_LIMIT, this.values.length * 2));
+            }
+            System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+            this.values[index] = value;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            System.arraycopy(this.values, index + 1, this.values, index, this.cardinality - index - 1);
+            this.cardinality--;
+            return this;
+        }
+
+        @Override
+        public int nextValue(int from) {
+            int index = Arrays.binarySearch(this.values, 0, this.cardinality, (char) from);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return index < this.cardinality ? this.values[index] : -1;
+        }
+
+        @Override
+        public Container copy() {
+            return new ArrayContainer(Arrays.copyOf(this.values, this.cardinality), this.cardinality);
+        }
+
+        @Override
+        public BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < this.cardinality; i++) {
+                bitmap.set(this.values[i]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        public Container and(Container other) {
+            // our result can't be bigger than we are, so it always fits in an array
+            char[] result = new char[this.cardinality];
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++) {
+                if (other.contains(this.values[i])) {
+                    result[count] = this.values[i];
+                    count++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        public Container andNot(Container other) {
+            char[] result = new char[this.cardinality];
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++) {
+                if (!other.contains(this.values[i])) {
+                    result[count] = this.values[i];
+                    count++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        // Merges two sorted arrays whose combined size is at most ARRAY_LIMIT.
+        public Container union(ArrayContainer other) {
+            char[] result = new char[this.cardinality + other.cardinality];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < this.cardinality || j < other.cardinality) {
+                if (j == other.cardinality || (i < this.cardinality && this.values[i] < other.values[j])) {
+                    result[count] = this.values[i];
+                    i++;
+                } else if (i == this.cardinality || this.values[i] > other.values[j]) {
+                    result[count] = other.values[j];
+                    j++;
+                } else {
+                    result[count] = this.values[i];
+                    i++;
+                    j++;
+                }
+                count++;
+            }
+            return new ArrayContainer(result, count);
+        }
+    }
+
+    private static class BitmapContainer extends Container {
+        private static final int NUM_WORDS = 65536 / 64;
+
+        private long[] words;
+        private int cardinality;
+
+        public BitmapContainer() {
+            this(new long[NUM_WORDS], 0);
+        }
+
+        public BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (this.words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            this.set(value);
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            this.words[value >>> 6] &= ~(1L << value);
+            this.cardinality--;
+            return this.shrinkIfSmall();
+        }
+
+        @Override
+        public int nextValue(int from) {
+            int wordIndex = from >>> 6;
+            if (wordIndex >= NUM_WORDS) {
+                return -1;
+            }
+            // ignore the bits below 'from' in its own word
+            long word = this.words[wordIndex] & (-1L << from);
+            while (word == 0) {
+                wordIndex++;
+                if (wordIndex == NUM_WORDS) {
+                    return -1;
+                }
+                word = this.words[wordIndex];
+            }
+            return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        @Override
+        public Container copy() {
+            return new BitmapContainer(Arrays.copyOf(this.words, NUM_WORDS), this.cardinality);
+        }
+
+        @Override
+        public BitmapContainer toBitmap() {
+            return (BitmapContainer) this.copy();
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[NUM_WORDS];
+            int count = 0;
+            for (int i = 0; i < NUM_WORDS; i++) {
+                result[i] = this.words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            return new BitmapContainer(result, count).shrinkIfSmall();
+        }
+
+        @Override
+        public Container andNot(Container other) {
+            BitmapContainer result = (BitmapContainer) this.copy();
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    char value = array.values[i];
+                    if (result.contains(value)) {
+                        result.words[value >>> 6] &= ~(1L << value);
+                        result.cardinality--;
+                    }
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                result.cardinality = 0;
+                for (int i = 0; i < NUM_WORDS; i++) {
+                    result.words[i] &= ~otherWords[i];
+                    result.cardinality += Long.bitCount(result.words[i]);
+                }
+            }
+            return result.shrinkIfSmall();
+        }
+
+        public void set(char value) {
+            long bit = 1L << value;
+            if ((this.words[value >>> 6] & bit) == 0) {
+                this.words[value >>> 6] |= bit;
+                this.cardinality++;
+            }
+        }
+
+        public void orInPlace(Container other) {
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    this.set(array.values[i]);
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                this.cardinality = 0;
+                for (int i = 0; i < NUM_WORDS; i++) {
+                    this.words[i] |= otherWords[i];
+                    this.cardinality += Long.bitCount(this.words[i]);
+                }
+            }
+        }
+
+        // Returns an equivalent array container if we've become small enough for one.
+        public Container shrinkIfSmall() {
+            if (this.cardinality > ARRAY_LIMIT) {
+                return this;
+            }
+            char[] values = new char[this.cardinality];
+            int count = 0;
+            for (int value = this.nextValue(0); value != -1; value = this.nextValue(value + 1)) {
+                values[count] = (char) value;
+                count++;
+            }
+            return new ArrayContainer(values, count);
+        }
+    }
+
+    private static class BitmapIterator implements Iterator<Integer> {
+        private char[] keys;
+        private Container[] containers;
+        private int numContainers;
+        private int containerIndex;
+        // The lower 16 bits of the next value, or -1 once we've run out.
+        private int nextLow;
+
+        public BitmapIterator(char[] keys, Container[] containers, int numContainers) {
+            this.keys = keys;
+            this.containers = containers;
+            this.numContainers = numContainers;
+            this.containerIndex = 0;
+            this.nextLow = numContainers > 0 ? containers[0].nextValue(0) : -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextLow != -1;
+        }
+
+        @Override
+        public Integer next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int value = join(this.keys[this.containerIndex], this.nextLow);
+            this.nextLow = this.nextLow == 0xFFFF ? -1 : this.containers[this.containerIndex].nextValue(this.nextLow + 1);
+            if (this.nextLow == -1 && this.containerIndex + 1 < this.numContainers) {
+                this.containerIndex++;
+                this.nextLow = this.containers[this.containerIndex].nextValue(0);
+            }
+            return value;
+        }
+    }
+}
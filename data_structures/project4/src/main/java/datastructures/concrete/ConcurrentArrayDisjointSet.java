@@ -0,0 +1,87 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDisjointSet;
+
+/**
+ * See IDisjointSet for more details.
+ *
+ * A version of ArrayDisjointSet whose findSet and union may be called from many
+ * threads at once; the actual work is done by a ConcurrentIntDisjointSet.
+ *
+ * Sets are created in two phases:
+ * 1. Call makeSet for every item, from a single thread.
+ * 2. Hand the disjoint set to the worker threads (for example, through
+ *    Thread.start or an ExecutorService, both of which make the earlier writes
+ *    visible). From then on, findSet and union are thread-safe.
+ *
+ * Calling makeSet while other threads are calling findSet or union is NOT safe.
+ */
+public class ConcurrentArrayDisjointSet<T> implements IDisjointSet<T> {
+    private ConcurrentIntDisjointSet sets;
+    private IDictionary<T, Integer> nodeInventory;
+
+    /**
+     * Constructs an empty disjoint set that can hold up to 'capacity' items.
+     *
+     * @throws IllegalArgumentException  if capacity is negative
+     */
+    public ConcurrentArrayDisjointSet(int capacity) {
+        this.sets = new ConcurrentIntDisjointSet(capacity);
+        this.nodeInventory = new ChainedHashDictionary<>(capacity);
+    }
+
+    /**
+     * @throws IllegalArgumentException  if the item is already a part of this disjoint set somewhere
+     * @throws IllegalStateException  if this disjoint set already holds 'capacity' items
+     */
+    @Override
+    public void makeSet(T item) {
+        if (this.nodeInventory.containsKey(item)) {
+            throw new IllegalArgumentException();
+        }
+        int id = this.nodeInventory.size();
+        if (id == this.sets.size()) {
+            throw new IllegalStateException("Disjoint set is full");
+        }
+        this.nodeInventory.put(item, id);
+    }
+
+    /**
+     * Note: if other threads are calling union, the returned id may already be out of
+     * date. Use sameSet to check whether two items are connected.
+     */
+    @Override
+    public int findSet(T item) {
+        return this.sets.findSet(this.idOf(item));
+    }
+
+    /**
+     * If several threads union the same two sets at once, exactly one of them
+     * succeeds and the rest throw IllegalArgumentException.
+     */
+    @Override
+    public void union(T item1, T item2) {
+        if (!this.sets.union(this.idOf(item1), this.idOf(item2))) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Returns 'true' if the two given items are in the same set.
+     *
+     * @throws IllegalArgumentException  if either item is not contained inside this disjoint set
+     */
+    public boolean sameSet(T item1, T item2) {
+        return this.sets.sameSet(this.idOf(item1), this.idOf(item2));
+    }
+
+    private int idOf(T item) {
+        Integer id = this.nodeInventory.getOrDefault(item, null);
+        if (id == null) {
+            throw new IllegalArgumentException();
+        }
+        return id;
+    }
+}
@@ -0,0 +1,161 @@
+package datastructures.concrete;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A thread-safe disjoint set over the fixed ids 0 through size - 1, each of which
+ * starts out in its own set.
+ *
+ * findSet, union and sameSet may all be called concurrently from any number of
+ * threads without locking:
+ * - Parent pointers live in an AtomicIntegerArray, and a root is only ever linked
+ *   under another root with a compareAndSet, so two threads can't both link the
+ *   same root.
+ * - Each id gets a random, distinct priority, and a root is always linked under a
+ *   root with a higher priority. Priorities therefore strictly increase along every
+ *   path, which rules out cycles no matter how operations interleave, and (since
+ *   the priorities are random) keeps trees shallow in expectation.
+ * - findSet uses path halving. Each shortcut is a compareAndSet that is allowed to
+ *   fail, since it only ever replaces a parent with one of its ancestors.
+ *
+ * Note: while other threads are calling union, the representative returned by
+ * findSet may stop being a representative at any moment. Use sameSet to check
+ * whether two ids are connected.
+ */
+public class ConcurrentIntDisjointSet {
+    private final AtomicIntegerArray parents;
+    private final int[] priorities;
+
+    /**
+     * Constructs a disjoint set where each of the ids 0 through size - 1 is in a
+     * set by itself.
+     *
+     * @throws IllegalArgumentException  if size is negative
+     */
+    public ConcurrentIntDisjointSet(int size) {
+        this(size, new Random());
+    }
+
+    /**
+     * Same as above, but uses 'rand' to pick each id's linking priority, so that the
+     * shape of the trees (and so the representatives) is reproducible.
+     *
+     * @throws IllegalArgumentException  if size is negative
+     */
+    public ConcurrentIntDisjointSet(int size, Random rand) {
+        if (size < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.parents = new AtomicIntegerArray(size);
+        this.priorities = new int[size];
+        for (int i = 0; i < size; i++) {
+            this.parents.set(i, i);
+            this.priorities[i] = i;
+        }
+        // Fisher-Yates shuffle, so every id gets a distinct random priority
+        for (int i = size - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int temp = this.priorities[i];
+            this.priorities[i] = this.priorities[j];
+            this.priorities[j] = temp;
+        }
+    }
+
+    /**
+     * Returns the representative of the set containing the given id.
+     *
+     * @throws IllegalArgumentException  if the id is out of range
+     */
+    public int findSet(int id) {
+        this.checkId(id);
+        return this.findRoot(id);
+    }
+
+    /**
+     * Combines the sets containing the two given ids. Returns 'true' if this call
+     * merged them, and 'false' if they were already in the same set.
+     *
+     * If several threads union the same two sets at once, exactly one of them
+     * returns 'true'.
+     *
+     * @throws IllegalArgumentException  if either id is out of range
+     */
+    public boolean union(int id1, int id2) {
+        this.checkId(id1);
+        this.checkId(id2);
+        while (true) {
+            int root1 = this.findRoot(id1);
+            int root2 = this.findRoot(id2);
+            if (root1 == root2) {
+                return false;
+            }
+            if (this.priorities[root1] > this.priorities[root2]) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            // Link the lower-priority root under the other one. If this fails, some
+            // other thread linked root1 first, so start over from the new roots.
+            if (this.parents.compareAndSet(root1, root1, root2)) {
+                return true;
+            }
+            id1 = root1;
+            id2 = root2;
+        }
+    }
+
+    /**
+     * Returns 'true' if the two given ids are in the same set. Unlike comparing two
+     * calls to findSet, this gives the correct answer even while other threads are
+     * calling union.
+     *
+     * @throws IllegalArgumentException  if either id is out of range
+     */
+    public boolean sameSet(int id1, int id2) {
+        this.checkId(id1);
+        this.checkId(id2);
+        while (true) {
+            int root1 = this.findRoot(id1);
+            int root2 = this.findRoot(id2);
+            if (root1 == root2) {
+                return true;
+            }
+            // If root1 is still a root, then at the moment we found root2 the two
+            // ids were in different sets.
+            if (this.parents.get(root1) == root1) {
+                return false;
+            }
+            id1 = root1;
+            id2 = root2;
+        }
+    }
+
+    /**
+     * Returns the number of ids in this disjoint set.
+     */
+    public int size() {
+        return this.priorities.length;
+    }
+
+    private int findRoot(int id) {
+        while (true) {
+            int parent = this.parents.get(id);
+            if (parent == id) {
+                return id;
+            }
+            int grandparent = this.parents.get(parent);
+            if (grandparent == parent) {
+                return parent;
+            }
+            this.parents.compareAndSet(id, parent, grandparent);
+            id = grandparent;
+        }
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= this.priorities.length) {
+            throw new IllegalArgumentException("Unknown id " + id);
+        }
+    }
+}
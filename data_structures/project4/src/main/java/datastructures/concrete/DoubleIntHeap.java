@@ -0,0 +1,206 @@
+package datastructures.concrete;
+
+import misc.exceptions.EmptyContainerException;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A 4-ary min-heap of int items ordered by double priorities.
+ *
+ * Unlike ArrayHeap, the priorities are stored directly in a double[] alongside the
+ * items, so comparisons never unbox or call compareTo, and no objects are allocated
+ * after construction.
+ *
+ * Items must be ids in the range [0, maxItems), and each id can be in the heap at
+ * most once. This lets the heap track the position of every item in a flat int[],
+ * so decreaseKey and changePriority run in O(log n) time.
+ *
+ * Note: priorities must not be NaN.
+ */
+public class DoubleIntHeap {
+    private static final int NUM_CHILDREN = 4;
+    private static final int ABSENT = -1;
+
+    // priorities[i] is the priority of items[i]; together they form the heap
+    private double[] priorities;
+    private int[] items;
+    // positions[item] is the index of the item in the heap, or ABSENT
+    private int[] positions;
+    private int size;
+
+    /**
+     * Constructs an empty heap that can hold the items 0 through maxItems - 1.
+     *
+     * @throws IllegalArgumentException  if maxItems is negative
+     */
+    public DoubleIntHeap(int maxItems) {
+        if (maxItems < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.priorities = new double[maxItems];
+        this.items = new int[maxItems];
+        this.positions = new int[maxItems];
+        for (int i = 0; i < maxItems; i++) {
+            this.positions[i] = ABSENT;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Inserts the given item with the given priority.
+     *
+     * @throws IllegalArgumentException  if the item is out of range or is already in the heap
+     */
+    public void insert(int item, double priority) {
+        if (this.contains(item)) {
+            throw new IllegalArgumentException("The heap already contains item " + item);
+        }
+        this.size++;
+        this.percolateUp(this.size - 1, item, priority);
+    }
+
+    /**
+     * Removes and returns the item with the smallest priority.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public int removeMin() {
+        int min = this.peekMin();
+        this.positions[min] = ABSENT;
+        this.size--;
+        if (this.size > 0) {
+            this.percolateDown(0, this.items[this.size], this.priorities[this.size]);
+        }
+        return min;
+    }
+
+    /**
+     * Returns, but does not remove, the item with the smallest priority.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public int peekMin() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.items[0];
+    }
+
+    /**
+     * Returns the smallest priority in the heap.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public double peekMinPriority() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.priorities[0];
+    }
+
+    /**
+     * Returns the current priority of the given item.
+     *
+     * @throws NoSuchElementException  if the item is not in the heap
+     */
+    public double getPriority(int item) {
+        return this.priorities[this.indexOf(item)];
+    }
+
+    /**
+     * Lowers the priority of the given item.
+     *
+     * @throws NoSuchElementException    if the item is not in the heap
+     * @throws IllegalArgumentException  if the new priority is larger than the current one
+     */
+    public void decreaseKey(int item, double priority) {
+        int index = this.indexOf(item);
+        if (priority > this.priorities[index]) {
+            throw new IllegalArgumentException("decreaseKey cannot increase a priority");
+        }
+        this.percolateUp(index, item, priority);
+    }
+
+    /**
+     * Sets the priority of the given item, moving it up or down as needed.
+     *
+     * @throws NoSuchElementException  if the item is not in the heap
+     */
+    public void changePriority(int item, double priority) {
+        int index = this.indexOf(item);
+        if (priority < this.priorities[index]) {
+            this.percolateUp(index, item, priority);
+        } else {
+            this.percolateDown(index, item, priority);
+        }
+    }
+
+    /**
+     * Returns 'true' if the given item is in the heap, and 'false' otherwise.
+     *
+     * @throws IllegalArgumentException  if the item is out of range
+     */
+    public boolean contains(int item) {
+        if (item < 0 || item >= this.positions.length) {
+            throw new IllegalArgumentException("Item " + item + " is out of range");
+        }
+        return this.positions[item] != ABSENT;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    private int indexOf(int item) {
+        if (!this.contains(item)) {
+            throw new NoSuchElementException();
+        }
+        return this.positions[item];
+    }
+
+    private void place(int index, int item, double priority) {
+        this.items[index] = item;
+        this.priorities[index] = priority;
+        this.positions[item] = index;
+    }
+
+    // Moves the hole at 'index' up until the given item can be placed there.
+    private void percolateUp(int index, int item, double priority) {
+        while (index > 0) {
+            int parent = (index - 1) / NUM_CHILDREN;
+            if (this.priorities[parent] <= priority) {
+                break;
+            }
+            this.place(index, this.items[parent], this.priorities[parent]);
+            index = parent;
+        }
+        this.place(index, item, priority);
+    }
+
+    // Moves the hole at 'index' down until the given item can be placed there.
+    private void percolateDown(int index, int item, double priority) {
+        while (true) {
+            int firstChild = NUM_CHILDREN * index + 1;
+            if (firstChild >= this.size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + NUM_CHILDREN, this.size);
+            int smallestChild = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (this.priorities[child] < this.priorities[smallestChild]) {
+                    smallestChild = child;
+                }
+            }
+            if (this.priorities[smallestChild] >= priority) {
+                break;
+            }
+            this.place(index, this.items[smallestChild], this.priorities[smallestChild]);
+            index = smallestChild;
+        }
+        this.place(index, item, priority);
+    }
+}
@@ -0,0 +1,135 @@
+package datastructures.concrete;
+
+import java.util.Arrays;
+
+/**
+ * A disjoint set over dense integer ids: makeSet hands out the ids 0, 1, 2, ...
+ * in order.
+ *
+ * Everything is stored in a single int[], so findSet and union never allocate and
+ * never hash. findSet uses path halving (every other node on the path is pointed
+ * at its grandparent), which keeps trees flat without needing to remember the path.
+ *
+ * ArrayDisjointSet uses the same array format and algorithms to support arbitrary items.
+ */
+public class IntDisjointSet {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    // pointers[id] is the parent of 'id', or, if 'id' is a root, -1 minus the rank
+    // of its tree.
+    private int[] pointers;
+    private int size;
+
+    public IntDisjointSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty disjoint set that can hold 'initialCapacity' ids before
+     * resizing.
+     *
+     * @throws IllegalArgumentException  if initialCapacity is negative
+     */
+    public IntDisjointSet(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.pointers = new int[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new set containing just a new id, and returns that id.
+     */
+    public int makeSet() {
+        if (this.size == this.pointers.length) {
+            this.pointers = Arrays.copyOf(this.pointers, Math.max(DEFAULT_CAPACITY, this.size * 2));
+        }
+        this.pointers[this.size] = -1;
+        this.size++;
+        return this.size - 1;
+    }
+
+    /**
+     * Returns the representative of the set containing the given id.
+     *
+     * @throws IllegalArgumentException  if the id was never returned by makeSet
+     */
+    public int findSet(int id) {
+        this.checkId(id);
+        return findRoot(this.pointers, id);
+    }
+
+    /**
+     * Combines the sets containing the two given ids. Returns 'true' if they were
+     * merged, and 'false' if they were already in the same set.
+     *
+     * When both trees have the same rank, the representative of id1's set becomes
+     * the representative of the merged set.
+     *
+     * @throws IllegalArgumentException  if either id was never returned by makeSet
+     */
+    public boolean union(int id1, int id2) {
+        this.checkId(id1);
+        this.checkId(id2);
+        return unionIds(this.pointers, id1, id2);
+    }
+
+    /**
+     * Returns the number of ids created so far.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the root of the tree containing 'id' in the given pointers array,
+     * halving the path along the way.
+     *
+     * This (and unionIds) works on any array in the same format as our pointers field,
+     * so that ArrayDisjointSet can share the algorithm while keeping its own array.
+     */
+    static int findRoot(int[] pointers, int id) {
+        while (pointers[id] >= 0) {
+            int parent = pointers[id];
+            int grandparent = pointers[parent];
+            if (grandparent < 0) {
+                return parent;
+            }
+            pointers[id] = grandparent;
+            id = grandparent;
+        }
+        return id;
+    }
+
+    /**
+     * Merges the trees containing id1 and id2 in the given pointers array by rank.
+     * Returns 'false' if they were already the same tree.
+     */
+    static boolean unionIds(int[] pointers, int id1, int id2) {
+        int root1 = findRoot(pointers, id1);
+        int root2 = findRoot(pointers, id2);
+        if (root1 == root2) {
+            return false;
+        }
+
+        // Roots store negative ranks, so the smaller value is the taller tree.
+        int rank1 = pointers[root1];
+        int rank2 = pointers[root2];
+        if (rank1 <= rank2) {
+            pointers[root2] = root1;
+            if (rank1 == rank2) {
+                pointers[root1]--;
+            }
+        } else {
+            pointers[root1] = root2;
+        }
+        return true;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= this.size) {
+            throw new IllegalArgumentException("Unknown id " + id);
+        }
+    }
+}
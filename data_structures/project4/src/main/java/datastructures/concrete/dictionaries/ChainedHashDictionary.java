@@ -12,6 +12,25 @@ import java.util.NoSuchElementException;
  * See the spec and IDictionary for more details on what each method should do
  */
 public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
+    // The capacities we grow through: each one is the next prime after doubling the last.
+    // Precomputing these saves us from running a primality search on every resize.
+    private static final int[] PRIMES = {
+        11, 23, 47, 97, 197, 397, 797, 1597, 3203, 6421, 12853, 25717, 51437, 102877,
+        205759, 411527, 823117, 1646237, 3292489, 6584983, 13169977, 26339969, 52679969,
+        105359939, 210719881, 421439783, 842879579
+    };
+
+    // How many buckets of the old table we move over per put/remove while an
+    // incremental resize is in progress.
+    private static final int MIGRATION_STEP = 4;
+
+    // A bucket is converted into a HashTreeDictionary once it holds more than
+    // TREEIFY_THRESHOLD pairs, and back into an ArrayDictionary once it shrinks to
+    // UNTREEIFY_THRESHOLD pairs. The gap between the two stops a bucket from flipping
+    // back and forth when a key is repeatedly added and removed.
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
     // You may not change or rename this field: we will be inspecting
     // it using our private tests.
     private IDictionary<K, V>[] chains;
@@ -20,10 +39,54 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     private int length;
     private int capacity;
 
+    // Fields used for incremental resizing.
+    //
+    // Invariant: while a resize is in progress, 'oldChains' is the previous table, and
+    // every bucket in it below 'migrationIndex' is null because its pairs have already
+    // been moved into 'chains'. Every key lives in exactly one of the two tables.
+    // When no resize is in progress, 'oldChains' is null.
+    private boolean incrementalResize;
+    private IDictionary<K, V>[] oldChains;
+    private int migrationIndex;
+
     public ChainedHashDictionary() {
+        this(0, false);
+    }
+
+    /**
+     * Constructs a new dictionary that can hold 'expectedSize' pairs without resizing.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public ChainedHashDictionary(int expectedSize) {
+        this(expectedSize, false);
+    }
+
+    /**
+     * Constructs a new dictionary. If 'incrementalResize' is true, the dictionary keeps
+     * the old table around when it grows and moves a few buckets over on each subsequent
+     * put or remove, instead of rehashing every pair at once.
+     */
+    public ChainedHashDictionary(boolean incrementalResize) {
+        this(0, incrementalResize);
+    }
+
+    /**
+     * Constructs a new dictionary that can hold 'expectedSize' pairs without resizing.
+     * See the constructor above for what 'incrementalResize' does.
+     *
+     * @throws IllegalArgumentException  if expectedSize is negative
+     */
+    public ChainedHashDictionary(int expectedSize, boolean incrementalResize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
         this.length = 0;
-        this.capacity = 11;
+        this.capacity = capacityFor(expectedSize);
         this.chains = this.makeArrayOfChains(this.capacity);
+        this.incrementalResize = incrementalResize;
+        this.oldChains = null;
+        this.migrationIndex = 0;
     }
 
     /**
@@ -42,11 +105,16 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public V get(K key) {
+        IDictionary<K, V> oldChain = this.findInOldChains(key);
+        if (oldChain != null) {
+            return oldChain.get(key);
+        }
+
         int hashCode = this.hash(key);
         
         // no bucket so element doesn't exist
         if (this.chains[hashCode] == null) {
-         	throw new NoSuchKeyException();
+            throw new NoSuchKeyException();
         }
         
         return this.chains[hashCode].get(key);
@@ -56,44 +124,57 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     public void put(K key, V value) {
         // lambda >= 1, resize
         if (this.length / this.capacity >= 1) {
-        	resize();
+            resize();
         }
-        
-        // get hash for this key
-        int hashCode = hash(key);
-        
-        // create a new bucket if there isn't one
-        if (this.chains[hashCode] == null) {
-        	this.chains[hashCode] = new ArrayDictionary<K, V>();
+
+        if (this.oldChains != null) {
+            this.migrate(MIGRATION_STEP);
+
+            // the key may still live in a bucket we haven't moved yet
+            IDictionary<K, V> oldChain = this.findInOldChains(key);
+            if (oldChain != null) {
+                oldChain.put(key, value);
+                return;
+            }
         }
         
         // only update size if an element wasn't replaced
-        int size = this.chains[hashCode].size();
-        this.chains[hashCode].put(key, value);
-        
-        if (this.chains[hashCode].size() != size) {
-        	length++;
+        if (putIntoChains(this.chains, this.hash(key), key, value)) {
+            length++;
         }
     }
 
     @Override
     public V remove(K key) {
-    	int hashCode = hash(key);
-    	if (this.chains[hashCode] == null) {
-    		throw new NoSuchKeyException();
-    	}
-    	this.length--;
-    	return this.chains[hashCode].remove(key);
+        if (this.oldChains != null) {
+            this.migrate(MIGRATION_STEP);
+
+            if (this.findInOldChains(key) != null) {
+                this.length--;
+                return removeFromChains(this.oldChains, hash(key, this.oldChains.length), key);
+            }
+        }
+
+        int hashCode = hash(key);
+        if (this.chains[hashCode] == null) {
+            throw new NoSuchKeyException();
+        }
+        V value = removeFromChains(this.chains, hashCode, key);
+        this.length--;
+        return value;
     }
 
     @Override
     public boolean containsKey(K key) {
-    	int hashCode = hash(key);
-    	// deal with empty bucket case
-    	if (this.chains[hashCode] == null) {
-    		return false;
-    	}
-	    return this.chains[hashCode].containsKey(key);
+        if (this.findInOldChains(key) != null) {
+            return true;
+        }
+        int hashCode = hash(key);
+        // deal with empty bucket case
+        if (this.chains[hashCode] == null) {
+            return false;
+        }
+        return this.chains[hashCode].containsKey(key);
     }
 
     @Override
@@ -101,48 +182,181 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         return this.length;
     }
 
+    /**
+     * Adds every pair in the given dictionary, growing the table at most once
+     * beforehand instead of repeatedly while inserting.
+     */
+    @Override
+    public void putAll(IDictionary<K, V> other) {
+        this.ensureCapacity(this.length + other.size());
+        for (KVPair<K, V> pair : other) {
+            this.put(pair.getKey(), pair.getValue());
+        }
+    }
+
+    /**
+     * Grows the table (if necessary) so that it can hold 'expectedSize' pairs in total
+     * without needing to resize again.
+     */
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize > this.capacity) {
+            this.resizeTo(capacityFor(expectedSize));
+        }
+    }
+
     @Override
     public Iterator<KVPair<K, V>> iterator() {
-        // Note: you do not need to change this method
-        return new ChainedIterator<>(this.chains, this.length);
+        return new ChainedIterator<>(this.oldChains, this.chains, this.length);
     }
     
     private int hash(K key) {
-    	int hash;
-    	// Hashes to 0 if the key is null
-    	if (key == null) {
-    		return 0;
-    	}
-    	hash = key.hashCode() % this.capacity;
+        return hash(key, this.capacity);
+    }
+
+    private static int hash(Object key, int tableSize) {
+        int hash;
+        // Hashes to 0 if the key is null
+        if (key == null) {
+            return 0;
+        }
+        hash = key.hashCode() % tableSize;
         
         // mod doesn't take care of negative values
         if (hash < 0) {
-        	hash = hash * -1;
+            hash = hash * -1;
         }
         return hash;
     }
+
+    /**
+     * Puts the pair into the given bucket of the given table, creating the bucket if
+     * necessary. Returns 'true' if a new pair was added and 'false' if a value was replaced.
+     */
+    private static <K, V> boolean putIntoChains(IDictionary<K, V>[] table, int index, K key, V value) {
+        // create a new bucket if there isn't one
+        if (table[index] == null) {
+            table[index] = new ArrayDictionary<K, V>();
+        }
+        IDictionary<K, V> chain = table[index];
+        int size = chain.size();
+        chain.put(key, value);
+
+        // switch long buckets over to a tree so lookups stay O(log n)
+        if (chain.size() > TREEIFY_THRESHOLD && chain instanceof ArrayDictionary) {
+            table[index] = copyChain(chain, new HashTreeDictionary<>());
+        }
+        return chain.size() != size;
+    }
+
+    /**
+     * Removes the key from the given bucket of the given table, converting the
+     * bucket back into an ArrayDictionary if it has become short enough.
+     */
+    private static <K, V> V removeFromChains(IDictionary<K, V>[] table, int index, K key) {
+        IDictionary<K, V> chain = table[index];
+        V value = chain.remove(key);
+        if (chain.size() <= UNTREEIFY_THRESHOLD && chain instanceof HashTreeDictionary) {
+            table[index] = copyChain(chain, new ArrayDictionary<>());
+        }
+        return value;
+    }
+
+    private static <K, V> IDictionary<K, V> copyChain(IDictionary<K, V> from, IDictionary<K, V> to) {
+        for (KVPair<K, V> pair : from) {
+            to.put(pair.getKey(), pair.getValue());
+        }
+        return to;
+    }
+
+    /**
+     * If an incremental resize is in progress and the key still lives in the old table,
+     * returns the bucket containing it. Otherwise, returns null.
+     */
+    private IDictionary<K, V> findInOldChains(K key) {
+        if (this.oldChains == null) {
+            return null;
+        }
+        IDictionary<K, V> oldChain = this.oldChains[hash(key, this.oldChains.length)];
+        if (oldChain != null && oldChain.containsKey(key)) {
+            return oldChain;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the smallest capacity from our table of primes that can hold the given
+     * number of pairs without resizing.
+     */
+    private static int capacityFor(int expectedSize) {
+        for (int prime : PRIMES) {
+            if (prime >= expectedSize) {
+                return prime;
+            }
+        }
+        // we've run off the end of our table, so fall back to computing the prime
+        return BigInteger.valueOf(expectedSize).nextProbablePrime().intValue();
+    }
+
+    private static int nextCapacity(int capacity) {
+        for (int prime : PRIMES) {
+            if (prime > capacity) {
+                return prime;
+            }
+        }
+        return BigInteger.valueOf(capacity * 2L).nextProbablePrime().intValue();
+    }
     
     private void resize() {
-        // use built-in methods to compute a next probable prime number (efficiently)
-        BigInteger b = BigInteger.valueOf(this.capacity * 2);
-        this.capacity = b.nextProbablePrime().intValue();
-        // this.capacity = nextPrime(this.capacity);
-    	
-        IDictionary<K, V>[] newChains = this.makeArrayOfChains(this.capacity);
+        this.resizeTo(nextCapacity(this.capacity));
+    }
+
+    private void resizeTo(int newCapacity) {
+        IDictionary<K, V>[] newChains = this.makeArrayOfChains(newCapacity);
+
+        if (this.incrementalResize) {
+            // finish off the previous resize (if any) before starting a new one
+            if (this.oldChains != null) {
+                this.migrate(this.oldChains.length);
+            }
+            this.oldChains = this.chains;
+            this.migrationIndex = 0;
+            this.chains = newChains;
+            this.capacity = newCapacity;
+            return;
+        }
+
         for (int i = 0; i < this.chains.length; i++) {
-        	if (this.chains[i] != null) {
-        	    for (KVPair<K, V> pair : this.chains[i]) {
-        	        K key = pair.getKey();
-                    V value = pair.getValue();
-        	        int hashCode = this.hash(key);
-                    if (newChains[hashCode] == null) {
-                    	newChains[hashCode] = new ArrayDictionary<K, V>();
-                    }
-                    newChains[hashCode].put(key, value);
-        	    }
-        	}
-    	}
+            if (this.chains[i] != null) {
+                for (KVPair<K, V> pair : this.chains[i]) {
+                    K key = pair.getKey();
+                    putIntoChains(newChains, hash(key, newCapacity), key, pair.getValue());
+                }
+            }
+        }
         this.chains = newChains;
+        this.capacity = newCapacity;
+    }
+
+    /**
+     * Moves up to 'numBuckets' buckets from the old table into the current one.
+     * Once every bucket has been moved, the old table is discarded.
+     */
+    private void migrate(int numBuckets) {
+        while (numBuckets > 0 && this.migrationIndex < this.oldChains.length) {
+            IDictionary<K, V> oldChain = this.oldChains[this.migrationIndex];
+            if (oldChain != null) {
+                for (KVPair<K, V> pair : oldChain) {
+                    K key = pair.getKey();
+                    putIntoChains(this.chains, this.hash(key), key, pair.getValue());
+                }
+                this.oldChains[this.migrationIndex] = null;
+            }
+            this.migrationIndex++;
+            numBuckets--;
+        }
+        if (this.migrationIndex == this.oldChains.length) {
+            this.oldChains = null;
+        }
     }
 
     /**
@@ -188,13 +402,21 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
      *    instance inside your 'chains' array, however.
      */
     private static class ChainedIterator<K, V> implements Iterator<KVPair<K, V>> {
+        // If a resize is in progress, we walk the old table first and then the new one.
         private IDictionary<K, V>[] chains;
+        private IDictionary<K, V>[] nextChains;
         private int chainsIndex;
         private int remainingElements;
         private Iterator<KVPair<K, V>> chainIter;
         
-        public ChainedIterator(IDictionary<K, V>[] chains, int length) {
-            this.chains = chains;
+        public ChainedIterator(IDictionary<K, V>[] oldChains, IDictionary<K, V>[] chains, int length) {
+            if (oldChains == null) {
+                this.chains = chains;
+                this.nextChains = null;
+            } else {
+                this.chains = oldChains;
+                this.nextChains = chains;
+            }
             this.chainsIndex = 0;
             this.chainIter = null;
             this.remainingElements = length;
@@ -208,21 +430,24 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         @Override
         public KVPair<K, V> next() {
             while (chainsIndex < chains.length) {
-            	if (chains[chainsIndex] == null) {
-            		chainsIndex++;
-            	} else {
-            		if (chainIter == null) {
-            			chainIter = chains[chainsIndex].iterator();
-            		} else {
-            			if (this.chainIter.hasNext()) {
-            				this.remainingElements--;
-            				return this.chainIter.next();
-            			} else {
-            				chainsIndex++;
-            				this.chainIter = null;
-            			}
-            		}
-            	}
+                if (chains[chainsIndex] == null) {
+                    chainsIndex++;
+                } else if (chainIter == null) {
+                    chainIter = chains[chainsIndex].iterator();
+                } else if (this.chainIter.hasNext()) {
+                    this.remainingElements--;
+                    return this.chainIter.next();
+                } else {
+                    chainsIndex++;
+                    this.chainIter = null;
+                }
+
+                // move on to the second table once we've exhausted the first
+                if (chainsIndex == chains.length && nextChains != null) {
+                    chains = nextChains;
+                    nextChains = null;
+                    chainsIndex = 0;
+                }
             }
             throw new NoSuchElementException();
         }
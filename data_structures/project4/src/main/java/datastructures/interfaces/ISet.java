@@ -14,6 +14,45 @@ public interface ISet<T> extends Iterable<T> {
      */
     public void add(T item);
 
+    /**
+     * Adds every item in the given set to this set.
+     *
+     * Note: The interface provides a default implementation that simply calls add on
+     *       each item, but implementations may override it with a version that sizes
+     *       themselves once up front.
+     */
+    public default void addAll(ISet<T> other) {
+        for (T item : other) {
+            this.add(item);
+        }
+    }
+
+    /**
+     * Returns a new set containing every item that is in this set, the other set, or both.
+     */
+    public ISet<T> union(ISet<T> other);
+
+    /**
+     * Returns a new set containing every item that is in both this set and the other set.
+     */
+    public ISet<T> intersection(ISet<T> other);
+
+    /**
+     * Returns a new set containing every item that is in this set but not the other set.
+     */
+    public ISet<T> difference(ISet<T> other);
+
+    /**
+     * Removes every item from this set that is not also in the other set.
+     */
+    public void retainAll(ISet<T> other);
+
+    /**
+     * Removes every item in the other set from this set. Items that are only in the
+     * other set are ignored.
+     */
+    public void removeAll(ISet<T> other);
+
     /**
      * Removes the given item from the set.
      *
@@ -1,10 +1,13 @@
 package misc;
 
 import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleIntHeap;
 import datastructures.concrete.DoubleLinkedList;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 
+import java.util.function.ToDoubleFunction;
+
 public class Searcher {
     /**
      * This method takes the input list and returns the top k elements
@@ -35,11 +38,20 @@ public class Searcher {
         }
         
         IList<T> output = new DoubleLinkedList<T>();
-        IPriorityQueue<T> sortHeap = new ArrayHeap<>();
         if (k == 0) {
             return output;
         }
 
+        if (k == input.size()) {
+            // we're sorting everything, so build one heap out of all the input at once
+            IPriorityQueue<T> sortHeap = new ArrayHeap<>(input);
+            for (int i = 0; i < k; i++) {
+                output.add(sortHeap.removeMin());
+            }
+            return output;
+        }
+
+        IPriorityQueue<T> sortHeap = new ArrayHeap<>();
         for (T item : input) {
             if (sortHeap.size() < k) {
                 // we want to keep our heap full
@@ -59,4 +71,57 @@ public class Searcher {
         }
         return output;
     }
+
+
+    /**
+     * Returns the k items with the highest scores, in increasing order of score.
+     *
+     * This behaves like topKSort above, except that items are ordered by the given
+     * scoring function instead of compareTo. Each item is scored exactly once, and
+     * the heap compares the raw double scores directly.
+     *
+     * This method must not modify the input list.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     */
+    public static <T> IList<T> topKSort(int k, IList<T> input, ToDoubleFunction<? super T> score) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        } else if (k > input.size()) {
+            k = input.size();
+        }
+
+        IList<T> output = new DoubleLinkedList<T>();
+        if (k == 0) {
+            return output;
+        }
+
+        // 'items' holds the k best items seen so far, and the heap holds their slots in
+        // 'items', keyed by each item's score. A new item takes over the slot of the
+        // item it pushes out, so neither ever needs more than k entries.
+        T[] items = makeArrayOfT(k);
+        DoubleIntHeap sortHeap = new DoubleIntHeap(k);
+        for (T item : input) {
+            double itemScore = score.applyAsDouble(item);
+            if (sortHeap.size() < k) {
+                int slot = sortHeap.size();
+                items[slot] = item;
+                sortHeap.insert(slot, itemScore);
+            } else if (itemScore > sortHeap.peekMinPriority()) {
+                int slot = sortHeap.removeMin();
+                items[slot] = item;
+                sortHeap.insert(slot, itemScore);
+            }
+        }
+
+        while (!sortHeap.isEmpty()) {
+            output.add(items[sortHeap.removeMin()]);
+        }
+        return output;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] makeArrayOfT(int size) {
+        return (T[]) new Object[size];
+    }
 }
@@ -1,15 +1,13 @@
 package misc.graphs;
 
-import datastructures.concrete.ArrayDisjointSet;
-import datastructures.concrete.ArrayHeap;
 import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.DoubleIntHeap;
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.IntDisjointSet;
 import datastructures.concrete.KVPair;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
-import datastructures.interfaces.IDisjointSet;
 import datastructures.interfaces.IList;
-import datastructures.interfaces.IPriorityQueue;
 import datastructures.interfaces.ISet;
 import misc.Searcher;
 import misc.exceptions.NoPathExistsException;
@@ -63,6 +61,11 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
     // store three datastructures
     private IDictionary<V, ISet<E>> adjacencyList;
     private IList<E> edgeList;
+
+    // Every vertex is also given a dense integer id (in the order it was first seen),
+    // so shortest-path searches can keep their state in flat arrays indexed by id.
+    private IDictionary<V, Integer> vertexIds;
+    private V[] vertexArray;
     
     /**
      * Constructs a new graph based on the given vertices and edges.
@@ -72,13 +75,23 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
      *                                   present in the 'vertices' list
      */
     public Graph(IList<V> vertices, IList<E> edges) {
-        this.adjacencyList = new ChainedHashDictionary<>();
+        this.adjacencyList = new ChainedHashDictionary<>(vertices.size());
+
+        this.vertexIds = new ChainedHashDictionary<>(vertices.size());
 
         // process each vertex and neighbours
         for (V vertex : vertices) {
+            if (!vertexIds.containsKey(vertex)) {
+                vertexIds.put(vertex, vertexIds.size());
+            }
             adjacencyList.put(vertex, new ChainedHashSet<>());
         }
 
+        this.vertexArray = makeArrayOfV(vertexIds.size());
+        for (KVPair<V, Integer> pair : vertexIds) {
+            vertexArray[pair.getValue()] = pair.getKey();
+        }
+
         // create new list of edges
         edgeList = new DoubleLinkedList<>();
         
@@ -116,6 +129,16 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
         this(setToList(vertices), setToList(edges));
     }
 
+    @SuppressWarnings("unchecked")
+    private V[] makeArrayOfV(int size) {
+        return (V[]) new Object[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] makeArrayOfE(int size) {
+        return (E[]) new Edge[size];
+    }
+
     // You shouldn't need to call this helper method -- it only needs to be used
     // in the constructor above.
     private static <T> IList<T> setToList(ISet<T> set) {
@@ -151,10 +174,11 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
     public ISet<E> findMinimumSpanningTree() {
         // use Kruskal and topK to get a spanning tree
         
-        // start by making each vertex into a disjoint set
-        IDisjointSet<V> verticesSet = new ArrayDisjointSet<>();
-        for (KVPair<V, ISet<E>> pair : adjacencyList) {
-            verticesSet.makeSet(pair.getKey());
+        // start by making each vertex into a disjoint set; makeSet hands out ids in
+        // order, so the ids match vertexIds
+        IntDisjointSet verticesSet = new IntDisjointSet(this.vertexArray.length);
+        for (int i = 0; i < this.vertexArray.length; i++) {
+            verticesSet.makeSet();
         }
         
         // sort all edges using topK -- this preserves internal data structures since a copy is made
@@ -163,12 +187,11 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
         
         int verticesCount = numVertices();
         for (E edge : sortedEdges) {
-            V vertex1 = edge.getVertex1();
-            V vertex2 = edge.getVertex2();
-            // add if they are different disjoint sets
-            if (verticesSet.findSet(vertex1) != verticesSet.findSet(vertex2)) {
+            int vertex1 = this.vertexIds.get(edge.getVertex1());
+            int vertex2 = this.vertexIds.get(edge.getVertex2());
+            // add if they were in different disjoint sets
+            if (verticesSet.union(vertex1, vertex2)) {
                 result.add(edge);
-                verticesSet.union(vertex1, vertex2);
             }
             // we only need to have processed V-1 edges to get a minimum spanning tree
             if (result.size() == verticesCount - 1) {
@@ -191,104 +214,68 @@ public class Graph<V, E extends Edge<V> & Comparable<E>> {
      * @throws NoPathExistsException  if there does not exist a path from the start to the end
      */
     public IList<E> findShortestPathBetween(V start, V end) {
-        if (start == end) {
+        int startId = this.vertexIds.get(start);
+        int endId = this.vertexIds.get(end);
+        if (startId == endId) {
             return new DoubleLinkedList<>();
         }
-        
-        // mapping of vertex to weighted vertex
-        IDictionary<V, WeightedVertex<V, E>> vertices = new ChainedHashDictionary<>();
-        // keep a heap of unprocessed weighted vertices
-        IPriorityQueue<WeightedVertex<V, E>> unprocessed = new ArrayHeap<>();
-        // keep track of processed vertices
-        ISet<V> processed = new ChainedHashSet<>();
-        
-        // initialize all weighted vertices
-        for (KVPair<V, ISet<E>> pair : adjacencyList) {
-            V vertex = pair.getKey();
-            
-            // give all vertices except start a weight of infinity
-            double weight = vertex == start ? 0 : Double.POSITIVE_INFINITY;
-            WeightedVertex<V, E> weightedVertex = new WeightedVertex<>(vertex, weight);
-            
-            // add to mapping
-            vertices.put(vertex, weightedVertex);
+
+        // distances[id] is the shortest distance found so far to the vertex with that id,
+        // and predecessors[id] is the edge leading back along that path
+        double[] distances = new double[this.vertexArray.length];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
         }
-        // start by adding start to the unprocessed vertices
-        unprocessed.insert(vertices.get(start));
-        
-        // get vertex with smallest distance
-        WeightedVertex<V, E> closest = unprocessed.peekMin();
-        while (!unprocessed.isEmpty() && closest.vertex != end) {
-            closest = unprocessed.removeMin();
-            // take care of duplicate vertices
-            while (!unprocessed.isEmpty() && processed.contains(closest.vertex)) {
-                closest = unprocessed.removeMin();
-            }
-            if (unprocessed.isEmpty() && processed.contains(closest.vertex)) {
+        E[] predecessors = this.makeArrayOfE(this.vertexArray.length);
+
+        // keep a heap of unprocessed vertex ids; each vertex is in it at most once
+        DoubleIntHeap unprocessed = new DoubleIntHeap(this.vertexArray.length);
+        distances[startId] = 0.0;
+        unprocessed.insert(startId, 0.0);
+
+        // get vertex with smallest distance until we reach the end. Once a vertex is
+        // removed its distance is final, so it can never be updated (or queued) again.
+        while (!unprocessed.isEmpty()) {
+            int closest = unprocessed.removeMin();
+            if (closest == endId) {
                 break;
             }
 
-            // if not processed yet
-            if (!processed.contains(closest.vertex)) {
-                // Check each edge leaving vertex
-                for (E edge : adjacencyList.get(closest.vertex)) {
-                    WeightedVertex<V, E> other = vertices.get(edge.getOtherVertex(closest.vertex));
-                    
-                    // If the distance is shorter from current vertex, update distance
-                    // and predecessor and add the end vertex to the queue with new values
-                    double distance = closest.distance + edge.getWeight();
-                    if (distance < other.distance) {
-                        other.distance = distance;
-                        other.predecessor = edge;
-                        
-                        // "instead of trying to update costs, you should add duplicate 
-                        //  elements and account for this separately"
-                        unprocessed.insert(other);
+            // Check each edge leaving vertex
+            V closestVertex = this.vertexArray[closest];
+            for (E edge : adjacencyList.get(closestVertex)) {
+                int other = this.vertexIds.get(edge.getOtherVertex(closestVertex));
+
+                // If the distance is shorter from current vertex, update distance
+                // and predecessor and move the other vertex up the queue
+                double distance = distances[closest] + edge.getWeight();
+                if (distance < distances[other]) {
+                    distances[other] = distance;
+                    predecessors[other] = edge;
+
+                    if (unprocessed.contains(other)) {
+                        unprocessed.decreaseKey(other, distance);
+                    } else {
+                        unprocessed.insert(other, distance);
                     }
                 }
-                processed.add(closest.vertex);
             }
         }
         
         // Error if never got to end
-        if (vertices.get(end).predecessor == null) {
+        if (predecessors[endId] == null) {
             throw new NoPathExistsException();
         }
         
         // Makes list of edges in shortest path
         IList<E> shortestPath = new DoubleLinkedList<>();
-        WeightedVertex<V, E> currentVertex = closest;
-        while (currentVertex.vertex != start) {
-            E edge = currentVertex.predecessor;
+        int current = endId;
+        while (current != startId) {
+            E edge = predecessors[current];
             shortestPath.insert(0, edge);
-            currentVertex = vertices.get(edge.getOtherVertex(currentVertex.vertex));
+            current = this.vertexIds.get(edge.getOtherVertex(this.vertexArray[current]));
         }
         
         return shortestPath;
     }
-    
-    private static class WeightedVertex<V, E> implements Comparable<WeightedVertex<V, E>> {
-        // Note that predecessor is the edge that leads to the prior vertex
-        // not the vertex itself. This makes it easier to build the set later
-        
-        // fields are public inside private class (this is OK)
-        public V vertex;
-        public E predecessor;
-        public Double distance;
-        
-        public WeightedVertex(V vertex, double distance) {
-            this(vertex, distance, null);
-        }
-        
-        public WeightedVertex(V vertex, double distance, E parent) {
-            this.vertex = vertex;
-            this.distance = distance;
-            this.predecessor = parent;
-        } 
-        
-        @Override
-        public int compareTo(WeightedVertex<V, E> other) {
-            return (int) (this.distance - other.distance);
-        }
-    }
 }
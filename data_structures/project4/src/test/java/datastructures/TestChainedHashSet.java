@@ -385,4 +385,100 @@ public class TestChainedHashSet extends BaseTest {
             assertFalse(set.contains(i));
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testPreSizedSet() {
+        ISet<Integer> set = new ChainedHashSet<>(1000);
+        assertTrue(set.isEmpty());
+        for (int i = 0; i < 2000; i++) {
+            set.add(i);
+        }
+        assertEquals(2000, set.size());
+        assertTrue(set.contains(1999));
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAll() {
+        ISet<String> set = this.makeBasicSet();
+        ISet<String> other = new ChainedHashSet<>();
+        other.add("keyC");
+        other.add("keyD");
+        other.add("keyE");
+
+        set.addAll(other);
+        this.assertSetMatches(new String[] {"keyA", "keyB", "keyC", "keyD", "keyE"}, set);
+        this.assertSetMatches(new String[] {"keyC", "keyD", "keyE"}, other);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetAlgebraLeavesInputsAlone() {
+        ISet<String> set = this.makeBasicSet();
+        ISet<String> other = new ChainedHashSet<>();
+        other.add("keyC");
+        other.add("keyD");
+        other.add(null);
+
+        this.assertSetMatches(new String[] {"keyA", "keyB", "keyC", "keyD", null}, set.union(other));
+        this.assertSetMatches(new String[] {"keyC"}, set.intersection(other));
+        this.assertSetMatches(new String[] {"keyC"}, other.intersection(set));
+        this.assertSetMatches(new String[] {"keyA", "keyB"}, set.difference(other));
+        this.assertSetMatches(new String[] {"keyD", null}, other.difference(set));
+
+        this.assertSetMatches(new String[] {"keyA", "keyB", "keyC"}, set);
+        this.assertSetMatches(new String[] {"keyC", "keyD", null}, other);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRetainAllAndRemoveAll() {
+        ISet<String> set = this.makeBasicSet();
+        ISet<String> other = new ChainedHashSet<>();
+        other.add("keyB");
+        other.add("keyC");
+        other.add("keyD");
+
+        set.retainAll(other);
+        this.assertSetMatches(new String[] {"keyB", "keyC"}, set);
+        set.retainAll(set);
+        this.assertSetMatches(new String[] {"keyB", "keyC"}, set);
+
+        other.removeAll(set);
+        this.assertSetMatches(new String[] {"keyD"}, other);
+        set.removeAll(set);
+        this.assertSetMatches(new String[] {}, set);
+
+        // the set should still be usable afterwards
+        set.add("keyA");
+        this.assertSetMatches(new String[] {"keyA"}, set);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetAlgebraLarge() {
+        ISet<Integer> evens = new ChainedHashSet<>();
+        ISet<Integer> threes = new ChainedHashSet<>();
+        for (int i = 0; i < 30000; i++) {
+            if (i % 2 == 0) {
+                evens.add(i);
+            }
+            if (i % 3 == 0) {
+                threes.add(i);
+            }
+        }
+
+        ISet<Integer> both = evens.intersection(threes);
+        ISet<Integer> either = evens.union(threes);
+        ISet<Integer> onlyEvens = evens.difference(threes);
+        assertEquals(5000, both.size());
+        assertEquals(20000, either.size());
+        assertEquals(10000, onlyEvens.size());
+        for (int i = 0; i < 30000; i++) {
+            assertEquals(i % 6 == 0, both.contains(i));
+            assertEquals(i % 2 == 0 || i % 3 == 0, either.contains(i));
+            assertEquals(i % 2 == 0 && i % 3 != 0, onlyEvens.contains(i));
+        }
+
+        evens.removeAll(threes);
+        assertEquals(10000, evens.size());
+        threes.retainAll(both);
+        assertEquals(5000, threes.size());
+    }
 }
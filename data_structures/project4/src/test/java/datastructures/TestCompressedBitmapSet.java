@@ -0,0 +1,205 @@
+package datastructures;
+
+import datastructures.concrete.ChainedHashSet;
+import datastructures.concrete.CompressedBitmapSet;
+import datastructures.interfaces.ISet;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestCompressedBitmapSet extends BaseTest {
+    private CompressedBitmapSet makeRange(int start, int end, int step) {
+        CompressedBitmapSet set = new CompressedBitmapSet();
+        for (int i = start; i < end; i += step) {
+            set.add(i);
+        }
+        return set;
+    }
+
+    // Checks that 'set' holds exactly the values in 'reference', in increasing order.
+    private void assertMatches(ISet<Integer> reference, CompressedBitmapSet set) {
+        assertEquals(reference.size(), set.size());
+        int count = 0;
+        Integer previous = null;
+        for (int value : set) {
+            assertTrue(reference.contains(value));
+            if (previous != null) {
+                assertTrue(previous < value);
+            }
+            previous = value;
+            count++;
+        }
+        assertEquals(reference.size(), count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddContainsRemoveBasic() {
+        CompressedBitmapSet set = new CompressedBitmapSet();
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        set.add(Integer.valueOf(70000));
+        set.add(-3);
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(5));
+        assertTrue(set.contains(Integer.valueOf(70000)));
+        assertTrue(set.contains(-3));
+        assertFalse(set.contains(6));
+        assertFalse(set.contains((Integer) null));
+
+        set.remove(5);
+        assertFalse(set.contains(5));
+        assertEquals(2, set.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveMissingThrowsException() {
+        CompressedBitmapSet set = this.makeRange(0, 10, 1);
+        try {
+            set.remove(10);
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+        try {
+            set.add((Integer) null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(10, set.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratesInOrder() {
+        CompressedBitmapSet set = new CompressedBitmapSet();
+        int[] values = {Integer.MAX_VALUE, 65535, 65536, -1, 0, Integer.MIN_VALUE, 200000};
+        for (int value : values) {
+            set.add(value);
+        }
+        int[] expected = {Integer.MIN_VALUE, -1, 0, 65535, 65536, 200000, Integer.MAX_VALUE};
+        Iterator<Integer> iter = set.iterator();
+        for (int value : expected) {
+            assertTrue(iter.hasNext());
+            assertEquals(value, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDenseChunksSwitchContainers() {
+        // Enough values in one chunk to need a bitmap, then few enough to go back
+        CompressedBitmapSet set = this.makeRange(0, 60000, 1);
+        assertEquals(60000, set.size());
+        for (int i = 0; i < 60000; i++) {
+            if (i % 20 != 0) {
+                set.remove(i);
+            }
+        }
+        assertEquals(3000, set.size());
+        assertTrue(set.contains(59980));
+        assertFalse(set.contains(59981));
+        int expected = 0;
+        for (int value : set) {
+            assertEquals(expected, value);
+            expected += 20;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetOperations() {
+        // evens and multiples of three, dense enough for bitmaps in the first chunks
+        // and sparse (arrays) in the later ones
+        CompressedBitmapSet evens = this.makeRange(0, 100000, 2);
+        evens = evens.or(this.makeRange(1000000, 1010000, 200));
+        CompressedBitmapSet threes = this.makeRange(0, 100000, 3);
+
+        CompressedBitmapSet both = evens.and(threes);
+        CompressedBitmapSet either = evens.or(threes);
+        CompressedBitmapSet onlyEvens = evens.andNot(threes);
+
+        for (int i = 0; i < 100000; i++) {
+            assertEquals(i % 6 == 0, both.contains(i));
+            assertEquals(i % 2 == 0 || i % 3 == 0, either.contains(i));
+            assertEquals(i % 2 == 0 && i % 3 != 0, onlyEvens.contains(i));
+        }
+        assertEquals(16667, both.cardinality());
+        assertEquals(66667 + 50, either.cardinality());
+        assertEquals(33333 + 50, onlyEvens.cardinality());
+
+        // the inputs are left alone
+        assertEquals(50050, evens.size());
+        assertEquals(33334, threes.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomOperationsMatchReference() {
+        CompressedBitmapSet set = new CompressedBitmapSet();
+        CompressedBitmapSet other = new CompressedBitmapSet();
+        ISet<Integer> reference = new ChainedHashSet<>();
+        ISet<Integer> otherReference = new ChainedHashSet<>();
+        Random rand = new Random(24);
+        for (int i = 0; i < 50000; i++) {
+            // mostly in two chunks, so containers fill up past the array limit
+            int value = rand.nextInt(140000) - 4000;
+            if (rand.nextInt(3) == 0) {
+                other.add(value);
+                otherReference.add(value);
+            } else if (rand.nextBoolean()) {
+                set.add(value);
+                reference.add(value);
+            } else if (reference.contains(value)) {
+                set.remove(value);
+                reference.remove(value);
+            }
+        }
+        this.assertMatches(reference, set);
+
+        ISet<Integer> both = new ChainedHashSet<>();
+        ISet<Integer> either = new ChainedHashSet<>();
+        ISet<Integer> difference = new ChainedHashSet<>();
+        for (int value : reference) {
+            either.add(value);
+            if (otherReference.contains(value)) {
+                both.add(value);
+            } else {
+                difference.add(value);
+            }
+        }
+        for (int value : otherReference) {
+            either.add(value);
+        }
+        this.assertMatches(both, set.and(other));
+        this.assertMatches(either, set.or(other));
+        this.assertMatches(difference, set.andNot(other));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetAlgebraThroughInterface() {
+        ISet<Integer> set = this.makeRange(0, 20, 1);
+        ISet<Integer> other = this.makeRange(10, 30, 2);
+        ISet<Integer> plain = new ChainedHashSet<>();
+        plain.add(5);
+        plain.add(50);
+
+        assertEquals(25, set.union(other).size());
+        assertEquals(5, set.intersection(other).size());
+        assertEquals(15, set.difference(other).size());
+        assertEquals(21, set.union(plain).size());
+        assertEquals(19, set.difference(plain).size());
+
+        set.retainAll(other);
+        assertEquals(5, set.size());
+        other.removeAll(set);
+        assertEquals(5, other.size());
+        assertFalse(other.contains(10));
+        assertTrue(other.contains(20));
+    }
+}
@@ -0,0 +1,142 @@
+package datastructures;
+
+import datastructures.concrete.ConcurrentArrayDisjointSet;
+import datastructures.concrete.ConcurrentIntDisjointSet;
+import datastructures.interfaces.IDisjointSet;
+import misc.BaseTest;
+import org.junit.Test;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestConcurrentDisjointSet extends BaseTest {
+    private static final int NUM_THREADS = 4;
+
+    @Test(timeout=SECOND)
+    public void testUnionAndSameSetSingleThreaded() {
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(5, new Random(15));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, forest.findSet(i));
+        }
+
+        assertTrue(forest.union(0, 1));
+        assertTrue(forest.union(2, 3));
+        assertFalse(forest.sameSet(1, 2));
+        assertTrue(forest.union(1, 3));
+        assertFalse(forest.union(0, 2));
+
+        int id = forest.findSet(0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(id, forest.findSet(i));
+            assertTrue(forest.sameSet(0, i));
+        }
+        assertEquals(4, forest.findSet(4));
+        assertFalse(forest.sameSet(0, 4));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIllegalArguments() {
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(3);
+        try {
+            forest.findSet(3);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            forest.union(-1, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+
+        IDisjointSet<String> items = new ConcurrentArrayDisjointSet<>(2);
+        items.makeSet("a");
+        items.makeSet("b");
+        try {
+            items.makeSet("a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            items.makeSet("c");
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // All ok -- expected result
+        }
+        items.union("a", "b");
+        try {
+            items.union("b", "a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentUnionsMergeEachPairOnce() throws InterruptedException {
+        int numItems = 200000;
+        ConcurrentIntDisjointSet forest = new ConcurrentIntDisjointSet(numItems);
+        AtomicInteger merges = new AtomicInteger(0);
+
+        // Every thread tries to union every item with its neighbour, in a different
+        // order, so the threads constantly race on the same roots.
+        Thread[] threads = new Thread[NUM_THREADS];
+        for (int t = 0; t < NUM_THREADS; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 1; i < numItems; i++) {
+                    int index = 1 + (i * 7919 + offset * 104729) % (numItems - 1);
+                    if (forest.union(index - 1, index)) {
+                        merges.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Exactly n - 1 unions can succeed before everything is in one set.
+        assertEquals(numItems - 1, merges.get());
+        int id = forest.findSet(0);
+        for (int i = 0; i < numItems; i++) {
+            assertEquals(id, forest.findSet(i));
+        }
+    }
+
+    @Test(timeout=4 * SECOND)
+    public void testConcurrentComponentsStayDisjoint() throws InterruptedException {
+        int numItems = 100000;
+        ConcurrentArrayDisjointSet<Integer> forest = new ConcurrentArrayDisjointSet<>(numItems);
+        for (int i = 0; i < numItems; i++) {
+            forest.makeSet(i);
+        }
+
+        // Thread t connects every item congruent to t modulo NUM_THREADS, so there
+        // should be exactly NUM_THREADS components at the end.
+        Thread[] threads = new Thread[NUM_THREADS];
+        for (int t = 0; t < NUM_THREADS; t++) {
+            int residue = t;
+            threads[t] = new Thread(() -> {
+                for (int i = residue + NUM_THREADS; i < numItems; i += NUM_THREADS) {
+                    forest.union(i - NUM_THREADS, i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 0; i < numItems; i++) {
+            assertTrue(forest.sameSet(i % NUM_THREADS, i));
+            assertFalse(forest.sameSet((i + 1) % NUM_THREADS, i));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package datastructures;
+
+import datastructures.concrete.IntDisjointSet;
+import misc.BaseTest;
+import org.junit.Test;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TestIntDisjointSet extends BaseTest {
+    private IntDisjointSet createForest(int size) {
+        IntDisjointSet forest = new IntDisjointSet(0);
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, forest.makeSet());
+        }
+        return forest;
+    }
+
+    @Test(timeout=SECOND)
+    public void testMakeSetAndFindSetSimple() {
+        IntDisjointSet forest = this.createForest(25);
+        assertEquals(25, forest.size());
+        for (int i = 0; i < 25; i++) {
+            assertEquals(i, forest.findSet(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testUnionReportsWhetherSetsMerged() {
+        IntDisjointSet forest = this.createForest(5);
+        assertTrue(forest.union(0, 1));
+        assertTrue(forest.union(2, 3));
+        assertTrue(forest.union(1, 3));
+        assertFalse(forest.union(0, 2));
+        assertFalse(forest.union(4, 4));
+
+        int id = forest.findSet(0);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(id, forest.findSet(i));
+        }
+        assertEquals(4, forest.findSet(4));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIllegalIds() {
+        IntDisjointSet forest = this.createForest(3);
+        int[] badIds = new int[] {-1, 3, 100};
+        for (int id : badIds) {
+            try {
+                forest.findSet(id);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+            try {
+                forest.union(0, id);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            new IntDisjointSet(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=2 * SECOND)
+    public void testLongChainsAreFlattened() {
+        int numItems = 1000000;
+        IntDisjointSet forest = this.createForest(numItems);
+        for (int i = 1; i < numItems; i++) {
+            forest.union(i - 1, i);
+        }
+        int id = forest.findSet(0);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < numItems; i++) {
+                assertEquals(id, forest.findSet(i));
+            }
+        }
+    }
+}
@@ -39,6 +39,29 @@ public class TestChainedHashDictionary extends TestDictionary {
         assertEquals(-2, map.get(key2));
     }
 
+    @Test(timeout=SECOND)
+    public void testManyComparableObjectsWithSameHashCode() {
+        // a bucket this long only stays fast if it gets converted into a tree
+        IDictionary<TestHashTreeDictionary.CollidingKey, Integer> map = this.newDictionary();
+        int limit = 20000;
+        for (int i = 0; i < limit; i++) {
+            map.put(new TestHashTreeDictionary.CollidingKey(i), i);
+        }
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i, map.get(new TestHashTreeDictionary.CollidingKey(i)));
+        }
+
+        // shrink the bucket back down to a handful of keys
+        for (int i = 5; i < limit; i++) {
+            map.remove(new TestHashTreeDictionary.CollidingKey(i));
+        }
+        assertEquals(5, map.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, map.get(new TestHashTreeDictionary.CollidingKey(i)));
+        }
+        assertFalse(map.containsKey(new TestHashTreeDictionary.CollidingKey(5)));
+    }
+
     @Test(timeout=SECOND)
     public void testNegativeHashCode() {
         IDictionary<Wrapper<String>, String> dict = this.newDictionary();
@@ -88,4 +111,31 @@ public class TestChainedHashDictionary extends TestDictionary {
             dict.remove(i);
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testPreSizedDictionary() {
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>(5000);
+        for (int i = 0; i < 10000; i++) {
+            dict.put(i, i);
+        }
+        assertEquals(10000, dict.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, dict.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutAll() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        IDictionary<String, String> other = this.newDictionary();
+        other.put("keyC", "newC");
+        other.put("keyD", "valD");
+
+        dict.putAll(other);
+        this.assertDictMatches(
+                new String[] {"keyA", "keyB", "keyC", "keyD"},
+                new String[] {"valA", "valB", "newC", "valD"},
+                dict);
+        assertEquals(2, other.size());
+    }
 }
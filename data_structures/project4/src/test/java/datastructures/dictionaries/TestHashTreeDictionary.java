@@ -0,0 +1,93 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.HashTreeDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestHashTreeDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new HashTreeDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testComparableKeysWithSameHashCode() {
+        IDictionary<CollidingKey, Integer> dict = this.newDictionary();
+        int limit = 20000;
+        for (int i = 0; i < limit; i++) {
+            dict.put(new CollidingKey(i), i);
+        }
+        assertEquals(limit, dict.size());
+
+        for (int i = 0; i < limit; i += 2) {
+            assertEquals(i, dict.remove(new CollidingKey(i)));
+        }
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new CollidingKey(i)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMixedKeyTypesWithSameHashCode() {
+        IDictionary<Object, String> dict = this.newDictionary();
+        dict.put(new Wrapper<>("a", 7), "wrapper-a");
+        dict.put(new Wrapper<>("b", 7), "wrapper-b");
+        dict.put(new CollidingKey(1), "colliding-1");
+        dict.put(null, "null");
+
+        assertEquals("wrapper-a", dict.get(new Wrapper<>("a", 7)));
+        assertEquals("wrapper-b", dict.get(new Wrapper<>("b", 7)));
+        assertEquals("colliding-1", dict.get(new CollidingKey(1)));
+        assertEquals("null", dict.get(null));
+
+        dict.remove(new Wrapper<>("a", 7));
+        assertFalse(dict.containsKey(new Wrapper<>("a", 7)));
+        assertTrue(dict.containsKey(new Wrapper<>("b", 7)));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratesInHashOrder() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 1000; i > -1000; i--) {
+            dict.put(i, i);
+        }
+
+        int previous = Integer.MIN_VALUE;
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertTrue(pair.getKey() > previous);
+            previous = pair.getKey();
+            count++;
+        }
+        assertEquals(2000, count);
+    }
+
+    /**
+     * A Comparable key whose hash code is always the same.
+     */
+    protected static class CollidingKey implements Comparable<CollidingKey> {
+        private int value;
+
+        public CollidingKey(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(this.value, other.value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == this.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+}
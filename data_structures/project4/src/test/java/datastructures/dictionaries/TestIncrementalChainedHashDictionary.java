@@ -0,0 +1,58 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Re-runs every dictionary test against a ChainedHashDictionary that resizes
+ * incrementally, and checks the dictionary stays consistent mid-migration.
+ */
+public class TestIncrementalChainedHashDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ChainedHashDictionary<>(true);
+    }
+
+    @Test(timeout=SECOND)
+    public void testLookupsDuringMigration() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 5000; i++) {
+            dict.put(i, i);
+
+            // every key inserted so far must be visible, whichever table it lives in
+            assertTrue(dict.containsKey(i / 2));
+            assertEquals(i / 2, dict.get(i / 2));
+            assertFalse(dict.containsKey(-i - 1));
+        }
+        assertEquals(5000, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testUpdateAndRemoveDuringMigration() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 3000; i++) {
+            dict.put(i, i);
+            if (i % 3 == 0) {
+                // overwrite an older key that may not have been migrated yet
+                dict.put(i / 3, -1);
+            }
+        }
+        for (int i = 0; i < 3000; i += 2) {
+            dict.remove(i);
+        }
+
+        assertEquals(1500, dict.size());
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            int key = pair.getKey();
+            assertTrue(key % 2 == 1);
+            assertEquals(key < 1000 ? -1 : key, (int) pair.getValue());
+            count++;
+        }
+        assertEquals(1500, count);
+    }
+}
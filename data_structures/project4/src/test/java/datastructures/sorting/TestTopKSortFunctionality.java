@@ -23,4 +23,25 @@ public class TestTopKSortFunctionality extends BaseTest {
             assertEquals(15 + i, top.get(i));
         }
     }
+
+
+    @Test(timeout=SECOND)
+    public void testScoredUsage() {
+        IList<String> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add("item" + i);
+        }
+
+        // score by how close the number is to 10.25, so higher scores are closer
+        IList<String> top = Searcher.topKSort(3, list,
+                item -> -Math.abs(Integer.parseInt(item.substring(4)) - 10.25));
+        assertEquals(3, top.size());
+        assertEquals("item9", top.get(0));
+        assertEquals("item11", top.get(1));
+        assertEquals("item10", top.get(2));
+        assertEquals(20, list.size());
+
+        assertEquals(0, Searcher.topKSort(0, list, String::length).size());
+        assertEquals(20, Searcher.topKSort(50, list, String::length).size());
+    }
 }